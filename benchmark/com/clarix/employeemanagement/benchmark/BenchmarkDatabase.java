@@ -0,0 +1,120 @@
+/*
+ * File : BenchmarkDatabase.java
+ * Package : com.clarix.employeemanagement.benchmark
+ * Description : Prepares an embedded database for the benchmarks
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import com.clarix.employeemanagement.model.Address;
+import com.clarix.employeemanagement.model.Employee;
+import com.clarix.employeemanagement.repository.EmployeeRepository;
+import com.clarix.employeemanagement.service.AddressService;
+import com.clarix.employeemanagement.service.EmployeeService;
+import com.clarix.employeemanagement.util.HibernateUtil;
+
+/**
+ * Points hibernate at an in-memory H2 database in MySQL mode and fills it
+ * with generated employees, so the benchmarks need no MySQL server
+ */
+public class BenchmarkDatabase {
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final String[] CITIES = {"Chennai", "Coimbatore", 
+            "Madurai", "Salem", "Trichy", "Erode", "Vellore", "Tirunelveli"};
+
+    /**
+     * Starts a new, empty database and builds the session factory for it
+     *
+     * @param name name of the in-memory database
+     */
+    public static void start(String name) {
+        HibernateUtil.shutdown();
+
+        System.setProperty("hibernate.connection.driver_class", 
+                "org.h2.Driver");
+        System.setProperty("hibernate.connection.url", "jdbc:h2:mem:" + name
+                + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        System.setProperty("hibernate.connection.username", "sa");
+        System.setProperty("hibernate.connection.password", "");
+        System.setProperty("hibernate.dialect", 
+                "org.hibernate.dialect.H2Dialect");
+        System.setProperty("hibernate.hbm2ddl.auto", "create-drop");
+
+        HibernateUtil.initialize();
+    }
+
+    /**
+     * Drops the database and closes its connection pool
+     */
+    public static void stop() {
+        HibernateUtil.shutdown();
+    }
+
+    /**
+     * Adds generated employees, their ids start from 1
+     *
+     * @param rows number of employees to add
+     */
+    public static void seed(int rows) {
+        EmployeeRepository employeeRepository = new EmployeeRepository();
+        List<Employee> employees = new ArrayList<>(SEED_BATCH_SIZE);
+
+        for (int index = 0; index < rows; index++) {
+            employees.add(newEmployee(index));
+
+            if (SEED_BATCH_SIZE == employees.size()) {
+                employeeRepository.addEmployees(employees, JDBC_BATCH_SIZE);
+                employees.clear();
+            }
+        }
+
+        if (!employees.isEmpty()) {
+            employeeRepository.addEmployees(employees, JDBC_BATCH_SIZE);
+        }
+    }
+
+    /**
+     * Generates a valid employee, the email and phone number are unique
+     * for every index
+     *
+     * @param index number of the employee
+     * @return the new unsaved employee
+     */
+    public static Employee newEmployee(int index) {
+        AddressService addressService = new AddressService();
+        String city = CITIES[index % CITIES.length];
+        Address currentAddress = addressService.createAddress(
+                String.valueOf(index % 500 + 1), "Gandhi Street", city, 
+                600000 + index % 1000);
+        Address permanentAddress = addressService.createAddress(
+                index % 90 + 1 + "/A", "Anna Salai", 
+                CITIES[(index + 3) % CITIES.length], 641000 + index % 1000);
+
+        return new EmployeeService().createEmployee("Employee " 
+                + toLetters(index), LocalDate.of(1970 + index % 35, 
+                index % 12 + 1, index % 28 + 1), 6_000_000_000L + index,
+                20000 + index % 80000, "employee" + index + "@clarix.com",
+                currentAddress, permanentAddress);
+    }
+
+    private static String toLetters(int index) {
+        StringBuilder letters = new StringBuilder();
+
+        do {
+            letters.append((char) ('a' + index % 26));
+            index /= 26;
+        } while (index > 0);
+
+        return letters.toString();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * File : ContentionBenchmark.java
+ * Package : com.clarix.employeemanagement.benchmark
+ * Description : Measures concurrent updates of the same employees
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import com.clarix.employeemanagement.model.UpdateResult;
+import com.clarix.employeemanagement.repository.EmployeeRepository;
+import com.clarix.employeemanagement.repository.PayrollGroup;
+import com.clarix.employeemanagement.service.EmployeeService;
+
+/**
+ * Updates the salaries of a few hot employees from many threads at once.
+ * updateSalary goes through the service, which retries conflicts, and
+ * incrementSalary adds one to the salary read, without retrying. The
+ * outcomes are counted per iteration, and after incrementSalary the
+ * salary total must have grown by exactly the increments reported as
+ * updated, so no concurrent update was lost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class ContentionBenchmark {
+    private static final int ROWS = 10000;
+
+    @Param({"1", "16", "10000"})
+    private int hotRows;
+
+    private EmployeeService employeeService;
+    private EmployeeRepository employeeRepository;
+    private long initialTotal;
+    private final LongAdder appliedIncrements = new LongAdder();
+
+    /**
+     * Outcomes of the updates of one thread, reported by JMH next to the
+     * throughput
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long updated;
+        public long notFound;
+        public long conflicts;
+        public long queued;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            updated = 0;
+            notFound = 0;
+            conflicts = 0;
+            queued = 0;
+        }
+
+        void count(UpdateResult result) {
+            switch (result) {
+                case UPDATED -> updated++;
+                case NOT_FOUND -> notFound++;
+                case CONFLICT -> conflicts++;
+                case QUEUED -> queued++;
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.start("contention_" + hotRows);
+        BenchmarkDatabase.seed(ROWS);
+        employeeService = new EmployeeService();
+        employeeRepository = new EmployeeRepository();
+        initialTotal = totalSalary();
+        appliedIncrements.reset();
+    }
+
+    @TearDown
+    public void tearDown() {
+        long increments = appliedIncrements.sum();
+
+        try {
+            long growth = totalSalary() - initialTotal;
+
+            if (0 < increments && increments != growth) {
+                throw new IllegalStateException(String.format(
+                        "Lost updates: %d increments applied, total grew by "
+                        + "%d", increments, growth));
+            }
+        } finally {
+            BenchmarkDatabase.stop();
+        }
+    }
+
+    @Benchmark
+    public UpdateResult updateSalary(Outcomes outcomes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UpdateResult result = employeeService.updateSalary(hotId(),
+                String.valueOf(20000 + random.nextInt(80000)));
+
+        outcomes.count(result);
+        return result;
+    }
+
+    @Benchmark
+    public UpdateResult incrementSalary(Outcomes outcomes) {
+        UpdateResult result = employeeRepository.patchEmployee(hotId(),
+                employee -> employee.setSalary(employee.getSalary() + 1));
+
+        if (result.isUpdated()) {
+            appliedIncrements.increment();
+        }
+        outcomes.count(result);
+        return result;
+    }
+
+    private int hotId() {
+        return 1 + ThreadLocalRandom.current().nextInt(hotRows);
+    }
+
+    /**
+     * The seeded salaries and the increments are whole numbers, so the
+     * rounded total is exact and compared as a long rather than a double
+     */
+    private long totalSalary() {
+        return Math.round(employeeRepository.aggregateSalaries(
+                PayrollGroup.ALL).get(0).total());
+    }
+}
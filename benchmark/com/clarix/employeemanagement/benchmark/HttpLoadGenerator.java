@@ -0,0 +1,113 @@
+/*
+ * File : HttpLoadGenerator.java
+ * Package : com.clarix.employeemanagement.benchmark
+ * Description : Drives concurrent requests against the http api
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import com.clarix.employeemanagement.util.OperationMetrics;
+import com.clarix.employeemanagement.util.OperationStatistics;
+
+/**
+ * Sends a read heavy mix of requests to a running EmployeeHttpServer from
+ * many concurrent clients over kept alive connections, and prints the
+ * throughput and latency percentiles of each request type
+ *
+ * Arguments: base url, concurrent clients, duration in seconds, highest
+ * employee id to request and percentage of writes, like
+ * http://localhost:8080 200 30 100000 10
+ */
+public class HttpLoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int durationSeconds = args.length > 2 
+                ? Integer.parseInt(args[2]) : 30;
+        int maxId = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+        int writePercentage = args.length > 4 
+                ? Integer.parseInt(args[4]) : 10;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        OperationMetrics operationMetrics = new OperationMetrics();
+        long endTime = System.nanoTime() 
+                + Duration.ofSeconds(durationSeconds).toNanos();
+
+        List<Thread> threads = new ArrayList<>(clients);
+        for (int client = 0; client < clients; client++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                while (System.nanoTime() < endTime) {
+                    int id = 1 + random.nextInt(maxId);
+                    boolean write = random.nextInt(100) < writePercentage;
+                    String operation = write ? "PATCH /employees/{id}" 
+                            : "GET /employees/{id}";
+                    HttpRequest request = write 
+                            ? patchSalary(baseUrl, id, random) 
+                            : HttpRequest.newBuilder(
+                                    URI.create(baseUrl + "/employees/" + id))
+                                    .GET().build();
+
+                    long startTime = System.nanoTime();
+                    boolean failed = true;
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request,
+                                HttpResponse.BodyHandlers.discarding());
+                        failed = response.statusCode() >= 500;
+                    } catch (Exception exception) {
+                        failed = true;
+                    } finally {
+                        operationMetrics.record(operation, 
+                                System.nanoTime() - startTime, failed);
+                    }
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        System.out.printf("%-24s %10s %8s %10s %9s %9s %9s%n", "operation",
+                "requests", "failed", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (OperationStatistics statistics 
+                : operationMetrics.getStatistics()) {
+
+            System.out.printf("%-24s %10d %8d %10.1f %9.2f %9.2f %9.2f%n",
+                    statistics.operation(), statistics.count(),
+                    statistics.failures(), 
+                    (double) statistics.count() / durationSeconds,
+                    statistics.p50Millis(), statistics.p99Millis(),
+                    statistics.maximumMillis());
+        }
+    }
+
+    private static HttpRequest patchSalary(String baseUrl, int id, 
+            ThreadLocalRandom random) {
+
+        String json = "{\"salary\":" + (10000 + random.nextInt(90000)) + "}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/employees/" + id))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * File : PayrollBenchmark.java
+ * Package : com.clarix.employeemanagement.benchmark
+ * Description : Measures the payroll summaries on a large database
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.clarix.employeemanagement.model.SalaryStats;
+import com.clarix.employeemanagement.repository.PayrollGroup;
+import com.clarix.employeemanagement.service.PayrollAnalytics;
+
+/**
+ * Measures payroll summaries of a seeded embedded database, aggregated by
+ * the database and, with percentiles, computed from the in-memory
+ * column store. The store is loaded by the first call of the warm up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class PayrollBenchmark {
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"ALL", "CITY", "AGE_BAND"})
+    private PayrollGroup group;
+
+    private PayrollAnalytics payrollAnalytics;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.start("payroll_" + rows + "_" + group);
+        BenchmarkDatabase.seed(rows);
+        payrollAnalytics = new PayrollAnalytics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkDatabase.stop();
+    }
+
+    @Benchmark
+    public List<SalaryStats> aggregateInDatabase() {
+        return payrollAnalytics.summarizeSalaries(group, false);
+    }
+
+    @Benchmark
+    public List<SalaryStats> summarizeWithPercentiles() {
+        return payrollAnalytics.summarizeSalaries(group, true);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * File : ReadPathBenchmark.java
+ * Package : com.clarix.employeemanagement.benchmark
+ * Description : Compares the session kinds used for reads
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.StatelessSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.clarix.employeemanagement.model.Employee;
+import com.clarix.employeemanagement.util.HibernateUtil;
+
+/**
+ * Runs the same employee reads through a regular session, a read-only
+ * session and a stateless session. Run with "-prof gc" to compare the
+ * allocation per read next to the time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class ReadPathBenchmark {
+    private static final String EMPLOYEE_BY_ID = """
+            from Employee e
+            join fetch e.currentAddress
+            join fetch e.permanentAddress
+            where e.id = :id and e.activeStatus = true
+            """;
+    private static final String EMPLOYEE_PAGE = """
+            from Employee e
+            join fetch e.currentAddress
+            join fetch e.permanentAddress
+            where e.activeStatus = true and e.id > :lastId
+            order by e.id
+            """;
+
+    @Param({"100000"})
+    private int rows;
+
+    @Param({"100"})
+    private int pageSize;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.start("read_path_" + rows);
+        BenchmarkDatabase.seed(rows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkDatabase.stop();
+    }
+
+    private int randomId() {
+        return ThreadLocalRandom.current().nextInt(rows) + 1;
+    }
+
+    private int randomPageStart() {
+        return ThreadLocalRandom.current().nextInt(rows - pageSize);
+    }
+
+    @Benchmark
+    public Employee employeeByIdSession() {
+        try (Session session = HibernateUtil.getSessionFactory()
+                .openSession()) {
+
+            return findEmployee(session);
+        }
+    }
+
+    @Benchmark
+    public Employee employeeByIdReadOnlySession() {
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+            return findEmployee(session);
+        }
+    }
+
+    @Benchmark
+    public Employee employeeByIdStatelessSession() {
+        try (StatelessSession session = HibernateUtil.getSessionFactory()
+                .openStatelessSession()) {
+
+            return findEmployee(session);
+        }
+    }
+
+    @Benchmark
+    public List<Employee> employeePageSession() {
+        try (Session session = HibernateUtil.getSessionFactory()
+                .openSession()) {
+
+            return findPage(session);
+        }
+    }
+
+    @Benchmark
+    public List<Employee> employeePageReadOnlySession() {
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+            return findPage(session);
+        }
+    }
+
+    @Benchmark
+    public List<Employee> employeePageStatelessSession() {
+        try (StatelessSession session = HibernateUtil.getSessionFactory()
+                .openStatelessSession()) {
+
+            return findPage(session);
+        }
+    }
+
+    private Employee findEmployee(SharedSessionContract session) {
+        return session.createQuery(EMPLOYEE_BY_ID, Employee.class)
+                .setParameter("id", randomId()).uniqueResult();
+    }
+
+    private List<Employee> findPage(SharedSessionContract session) {
+        return session.createQuery(EMPLOYEE_PAGE, Employee.class)
+                .setParameter("lastId", randomPageStart())
+                .setMaxResults(pageSize).list();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * File : RepositoryBenchmark.java
+ * Package : com.clarix.employeemanagement.benchmark
+ * Description : Measures the employee repository operations
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import com.clarix.employeemanagement.repository.EmployeeFetchProfile;
+import com.clarix.employeemanagement.repository.EmployeeRepository;
+
+/**
+ * Measures the employee repository against an embedded database seeded
+ * with the given number of employees. Throughput and sampled latency
+ * (with percentiles) are reported, run with "-prof gc" for allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class RepositoryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private EmployeeRepository employeeRepository;
+    private AtomicInteger nextEmployee;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.start("repository_" + rows);
+        BenchmarkDatabase.seed(rows);
+        employeeRepository = new EmployeeRepository();
+        nextEmployee = new AtomicInteger(rows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkDatabase.stop();
+    }
+
+    private int randomId() {
+        return ThreadLocalRandom.current().nextInt(rows) + 1;
+    }
+
+    @Benchmark
+    public Object addEmployee() {
+        return employeeRepository.addEmployee(
+                BenchmarkDatabase.newEmployee(nextEmployee.getAndIncrement()));
+    }
+
+    @Benchmark
+    public Object getEmployeeById() {
+        return employeeRepository.getEmployeeById(randomId());
+    }
+
+    @Benchmark
+    public Object getEmployeeSummaryById() {
+        return employeeRepository.getEmployeeById(randomId(),
+                EmployeeFetchProfile.SUMMARY);
+    }
+
+    @Benchmark
+    public boolean isEmployeeExist() {
+        return employeeRepository.isEmployeeExist(randomId());
+    }
+
+    @Benchmark
+    public Object viewEmployeeById() {
+        return employeeRepository.viewEmployeeById(randomId());
+    }
+
+    @Benchmark
+    public Object viewEmployeeSummaryById() {
+        return employeeRepository.viewEmployeeSummaryById(randomId());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object viewAllEmployees() {
+        return employeeRepository.viewAllEmployees();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void forEachEmployee(Blackhole blackhole) {
+        employeeRepository.forEachEmployee(500, blackhole::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void forEachEmployeeSummary(Blackhole blackhole) {
+        employeeRepository.forEachEmployeeSummary(500, blackhole::consume);
+    }
+
+    @Benchmark
+    public boolean deleteEmployee() {
+        return employeeRepository.deleteEmployee(randomId());
+    }
+
+    @Benchmark
+    public boolean isEmailExist() {
+        return employeeRepository.isEmailExist(
+                "employee" + randomId() + "@clarix.com");
+    }
+}
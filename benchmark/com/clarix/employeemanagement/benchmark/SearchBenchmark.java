@@ -0,0 +1,133 @@
+/*
+ * File : SearchBenchmark.java
+ * Package : com.clarix.employeemanagement.benchmark
+ * Description : Measures the employee search with and without indexes
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.clarix.employeemanagement.model.EmployeeSummary;
+import com.clarix.employeemanagement.repository.EmployeeRepository;
+import com.clarix.employeemanagement.repository.EmployeeSearchCriteria;
+import com.clarix.employeemanagement.repository.EmployeeSortField;
+import com.clarix.employeemanagement.util.HibernateUtil;
+
+/**
+ * Measures selective employee searches on a seeded embedded database,
+ * once with the indexes declared in the mappings and once with them
+ * dropped, so the difference shows what the indexes are worth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class SearchBenchmark {
+    private static final String[] INDEXES = {"idx_employee_name", 
+            "idx_employee_date_of_birth", "idx_employee_salary", 
+            "idx_employee_active_deactivated", "idx_address_city", 
+            "idx_address_pin_code"};
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private EmployeeRepository employeeRepository;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.start("search_" + rows + "_" + indexed);
+        BenchmarkDatabase.seed(rows);
+        employeeRepository = new EmployeeRepository();
+
+        if (!indexed) {
+            dropIndexes();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkDatabase.stop();
+    }
+
+    private void dropIndexes() {
+        try (Session session = HibernateUtil.getSessionFactory()
+                .openSession()) {
+
+            Transaction transaction = session.beginTransaction();
+            for (String index : INDEXES) {
+                session.createNativeQuery("drop index if exists " + index)
+                        .executeUpdate();
+            }
+            transaction.commit();
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeSummary> searchByNamePrefix() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setNamePrefix("Employee abc");
+        criteria.setSortField(EmployeeSortField.NAME);
+        return employeeRepository.searchEmployees(criteria);
+    }
+
+    @Benchmark
+    public List<EmployeeSummary> searchBySalaryRange() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setMinSalary(45000.0);
+        criteria.setMaxSalary(45010.0);
+        criteria.setSortField(EmployeeSortField.SALARY);
+        criteria.setDescending(true);
+        return employeeRepository.searchEmployees(criteria);
+    }
+
+    @Benchmark
+    public List<EmployeeSummary> searchByPinCode() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setPinCode(600123);
+        return employeeRepository.searchEmployees(criteria);
+    }
+
+    @Benchmark
+    public List<EmployeeSummary> searchByCityAndAge() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setCity("Madurai");
+        criteria.setMinAge(40);
+        criteria.setMaxAge(41);
+        criteria.setSortField(EmployeeSortField.AGE);
+        return employeeRepository.searchEmployees(criteria);
+    }
+
+    @Benchmark
+    public List<EmployeeSummary> searchFirstPageBySalary() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setSortField(EmployeeSortField.SALARY);
+        criteria.setDescending(true);
+        return employeeRepository.searchEmployees(criteria);
+    }
+}
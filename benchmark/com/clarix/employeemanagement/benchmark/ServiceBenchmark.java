@@ -0,0 +1,111 @@
+/*
+ * File : ServiceBenchmark.java
+ * Package : com.clarix.employeemanagement.benchmark
+ * Description : Measures the employee validation and formatting paths
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.clarix.employeemanagement.model.Employee;
+import com.clarix.employeemanagement.service.EmployeeService;
+
+/**
+ * Measures the validation and formatting paths of the employee service.
+ * The email and phone checks run against an embedded database seeded
+ * with the given number of employees, with the contact filter warmed up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class ServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private EmployeeService employeeService;
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.start("service_" + rows);
+        BenchmarkDatabase.seed(rows);
+        employeeService = new EmployeeService();
+        employeeService.warmUpContactFilter();
+        employee = BenchmarkDatabase.newEmployee(rows / 2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkDatabase.stop();
+    }
+
+    @Benchmark
+    public String validateName() {
+        return employeeService.validateName("Sakthi Vel");
+    }
+
+    @Benchmark
+    public String validateDateOfBirth() {
+        return employeeService.validateDateOfBirth(LocalDate.of(1995, 5, 17));
+    }
+
+    @Benchmark
+    public String validateSalary() {
+        return employeeService.validateSalary("45000.50");
+    }
+
+    @Benchmark
+    public String validateTakenEmail() {
+        return employeeService.validateEmail("employee" 
+                + ThreadLocalRandom.current().nextInt(rows) + "@clarix.com");
+    }
+
+    @Benchmark
+    public String validateFreeEmail() {
+        return employeeService.validateEmail("new" 
+                + ThreadLocalRandom.current().nextInt(rows) + "@clarix.com");
+    }
+
+    @Benchmark
+    public String validateFreePhoneNumber() {
+        return employeeService.validatePhoneNumber(String.valueOf(
+                9_000_000_000L + ThreadLocalRandom.current().nextInt(rows)));
+    }
+
+    @Benchmark
+    public String formatEmployee() {
+        return employeeService.formatEmployee(employee);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public void writeAllEmployees() throws IOException {
+        employeeService.writeAllEmployees(Writer.nullWriter());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * File : ValidationBenchmark.java
+ * Package : com.clarix.employeemanagement.benchmark
+ * Description : Compares the validation rules with String.matches
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import com.clarix.employeemanagement.service.ValidationRules;
+
+/**
+ * Measures validating one row of employee and address details with the
+ * precompiled validation rules against the former String.matches checks.
+ * Run with "-prof gc" to compare the allocation per row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+    private static final String[][] ROWS = {
+        {"Sakthi Vel", "sakthi.vel@clarix.com", "9876543210", "45000.50",
+                "12/4-B", "Gandhi Street", "Chennai", "600001"},
+        {"Al", "not-an-email", "5876543210", "1234567",
+                "/12", "Main Road #5", "Chennai 2", "6000011"}
+    };
+
+    private ValidationRules validationRules;
+    private int rowIndex;
+
+    @Setup
+    public void setUp() {
+        validationRules = new ValidationRules();
+    }
+
+    private String[] nextRow() {
+        rowIndex = (rowIndex + 1) % ROWS.length;
+        return ROWS[rowIndex];
+    }
+
+    @Benchmark
+    public void stringMatches(Blackhole blackhole) {
+        String[] row = nextRow();
+
+        blackhole.consume(row[0].matches("^[A-Za-z ]{3,30}$"));
+        blackhole.consume(row[1].matches("^[A-Za-z0-9_.]+@[A-Za-z0-9.]+$"));
+        blackhole.consume(row[2].matches("^[6-9][0-9]{9}$"));
+        blackhole.consume(row[3].matches("^[0-9]{1,6}(\\.[0-9]{1,2})?$"));
+        blackhole.consume(row[4].matches(
+                "^[A-Za-z0-9]+([ /-][A-Za-z0-9]+)*$"));
+        blackhole.consume(row[5].matches("^[A-Za-z0-9 .-]{1,50}$"));
+        blackhole.consume(row[6].matches("^[A-Za-z ]{1,50}$"));
+        blackhole.consume(row[7].matches("^[0-9]{1,6}$"));
+    }
+
+    @Benchmark
+    public void validationRules(Blackhole blackhole) {
+        String[] row = nextRow();
+
+        blackhole.consume(validationRules.validateName(row[0]));
+        blackhole.consume(validationRules.validateEmail(row[1]));
+        blackhole.consume(validationRules.validatePhoneNumber(row[2]));
+        blackhole.consume(validationRules.validateSalary(row[3]));
+        blackhole.consume(validationRules.validateDoorNo(row[4]));
+        blackhole.consume(validationRules.validateStreet(row[5]));
+        blackhole.consume(validationRules.validateCity(row[6]));
+        blackhole.consume(validationRules.validatePinCode(row[7]));
+    }
+}
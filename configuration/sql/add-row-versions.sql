@@ -0,0 +1,9 @@
+-- Prepares a database created before rows were versioned for optimistic
+-- locking. The first start adds the version columns to employee and
+-- address; rows that existed before are given version 0 here, so they
+-- can be read and updated again.
+-- Run once on MySQL 8 after the first start has added the columns.
+
+update employee set version = 0 where version is null;
+
+update address set version = 0 where version is null;
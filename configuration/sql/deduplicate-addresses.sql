@@ -0,0 +1,47 @@
+-- Adds address.content_hash to a database created before addresses were
+-- shared, fills it and merges identical addresses into the one with the
+-- lowest id. The hash matches AddressInterner.contentHash: doorNo, street,
+-- city and pinCode, each trimmed, lower cased and with runs of white space
+-- collapsed, joined by the unit separator (char 31) and hashed with
+-- SHA-256. The unique key is added only after the merge, as the existing
+-- duplicates would violate it.
+-- Run once on MySQL 8 before starting this version, on the schema of the
+-- earlier version, which has no content_hash column.
+
+alter table address add column content_hash varchar(64);
+
+update address
+set content_hash = sha2(concat_ws(char(31 using utf8mb4),
+        lower(trim(regexp_replace(coalesce(doorNo, ''), '[[:space:]]+', ' '))),
+        lower(trim(regexp_replace(coalesce(street, ''), '[[:space:]]+', ' '))),
+        lower(trim(regexp_replace(coalesce(city, ''), '[[:space:]]+', ' '))),
+        pinCode), 256)
+where content_hash is null;
+
+create temporary table address_survivor as
+select content_hash, min(id) as survivor_id
+from address
+group by content_hash
+having count(*) > 1;
+
+update employee e
+join address a on a.id = e.current_address_id
+join address_survivor s on s.content_hash = a.content_hash
+set e.current_address_id = s.survivor_id
+where a.id <> s.survivor_id;
+
+update employee e
+join address a on a.id = e.permanent_address_id
+join address_survivor s on s.content_hash = a.content_hash
+set e.permanent_address_id = s.survivor_id
+where a.id <> s.survivor_id;
+
+delete a
+from address a
+join address_survivor s on s.content_hash = a.content_hash
+where a.id <> s.survivor_id;
+
+drop temporary table address_survivor;
+
+alter table address
+add constraint uk_address_content_hash unique (content_hash);
@@ -0,0 +1,6 @@
+-- Removes the stored age of the employee table. Age is now worked out from
+-- dateOfBirth when an employee is read (a formula in Employee-mapping.xml),
+-- and the old column is no longer written, so inserts would fail on its
+-- not null constraint. Run once on MySQL 8 before starting this version.
+
+alter table employee drop column age;
\ No newline at end of file
@@ -0,0 +1,13 @@
+-- Prepares a database created before deleted employees were archived.
+-- Employees deleted earlier have no deactivated_at, so they are given the
+-- time of this run and become due for archival after the retention
+-- period from now. The first start creates the deactivated_at column and
+-- the idx_employee_active_deactivated index; MySQL has no partial
+-- indexes, so the composite index keeps active as its first column
+-- instead of indexing only the inactive rows.
+-- Run once on MySQL 8 after the first start, on a database of the earlier
+-- version, whose employee table has no index on active.
+
+update employee
+set deactivated_at = current_timestamp
+where active = false and deactivated_at is null;
@@ -0,0 +1,10 @@
+-- Moves the id sequences past the ids handed out by the former
+-- "increment" generator. Run once on an existing database, after the
+-- application has created employee_seq and address_seq and before any
+-- new employee is added.
+
+update employee_seq
+set next_val = (select coalesce(max(id), 0) + 1 from employee);
+
+update address_seq
+set next_val = (select coalesce(max(id), 0) + 1 from address);
@@ -9,6 +9,7 @@
  * Copyright : © 2026 clarivium technologies. All rights reserved
  */
 
+import com.clarix.employeemanagement.util.HibernateUtil;
 import com.clarix.employeemanagement.view.EmployeeView;
 
 /**
@@ -16,8 +17,17 @@ import com.clarix.employeemanagement.view.EmployeeView;
  */
 public class EmployeeManagement {
     public static void main(String[] args) {
-        
+        HibernateUtil.initialize();
+
         EmployeeView employeeView = new EmployeeView();
-        employeeView.executeMenu();
+        try {
+            employeeView.getEmployeeController().warmUpContactFilter();
+            employeeView.getEmployeeController().warmUpNameIndex();
+            employeeView.getEmployeeController().configureWriteBehind();
+            employeeView.executeMenu();
+        } finally {
+            employeeView.getEmployeeController().stopWriteBehind();
+            HibernateUtil.shutdown();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+/*
+ * File : AddressHandler.java
+ * Package : com.clarix.employeemanagement.api
+ * Description : Serves the address endpoints of the api
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.api;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import com.clarix.employeemanagement.controller.AddressController;
+import com.clarix.employeemanagement.controller.EmployeeRequestExecutor;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Serves the address endpoints
+ *
+ * PUT /addresses/{id}   replaces doorNo, street, city and pinCode
+ */
+public class AddressHandler extends ApiHandler {
+
+    public AddressHandler(EmployeeRequestExecutor requestExecutor) {
+        super(requestExecutor);
+    }
+
+    @Override
+    protected void route(HttpExchange exchange, String path) 
+            throws IOException {
+
+        if (path.length() < 2 || path.indexOf('/', 1) > 0) {
+            sendStatus(exchange, 404);
+            return;
+        }
+
+        int addressId = parseId(path.substring(1));
+        if (!"PUT".equals(exchange.getRequestMethod())) {
+            sendStatus(exchange, 405);
+            return;
+        }
+
+        Map<String, Object> request = readJson(exchange);
+
+        ApiResult result = requestExecutor.submit("updateAddress", () -> {
+            AddressController addressController = 
+                    requestExecutor.getAddressController();
+            List<String> errors = new ArrayList<>();
+
+            String doorNo = text(request, "doorNo");
+            String street = text(request, "street");
+            String city = text(request, "city");
+            String pinCode = text(request, "pinCode");
+
+            addError(errors, "doorNo", null == doorNo ? "required"
+                    : addressController.validateDoorNo(doorNo));
+            addError(errors, "street", null == street ? "required"
+                    : addressController.validateStreet(street));
+            addError(errors, "city", null == city ? "required"
+                    : addressController.validateCity(city));
+            addError(errors, "pinCode", null == pinCode ? "required"
+                    : addressController.validatePinCode(pinCode));
+
+            if (!errors.isEmpty()) {
+                return new ApiResult(400, EmployeeJson.errors(errors));
+            }
+
+            return updateResult(addressController.updateAddress(
+                    addressId, doorNo, street, city, 
+                    Integer.parseInt(pinCode)));
+        }).join();
+
+        if (null == result.json()) {
+            sendStatus(exchange, result.status());
+        } else {
+            sendJson(exchange, result.status(), result.json());
+        }
+    }
+}
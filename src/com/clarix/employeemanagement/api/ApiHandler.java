@@ -0,0 +1,196 @@
+/*
+ * File : ApiHandler.java
+ * Package : com.clarix.employeemanagement.api
+ * Description : Shares request and response handling of the api
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import com.clarix.employeemanagement.controller.EmployeeRequestExecutor;
+import com.clarix.employeemanagement.model.UpdateResult;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+/**
+ * Reads json requests and writes json responses for the api handlers.
+ * Every request body is read fully and every exchange is closed, so the
+ * connection can be kept alive for the next request.
+ */
+public abstract class ApiHandler implements HttpHandler {
+    protected static final String JSON_TYPE = 
+            "application/json; charset=utf-8";
+
+    protected final EmployeeRequestExecutor requestExecutor;
+
+    protected ApiHandler(EmployeeRequestExecutor requestExecutor) {
+        this.requestExecutor = requestExecutor;
+    }
+
+    /**
+     * Handles one request
+     *
+     * @param exchange the request and its response
+     * @param path the request path after the context path
+     * @throws IOException if the connection fails
+     */
+    protected abstract void route(HttpExchange exchange, String path) 
+            throws IOException;
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            String contextPath = exchange.getHttpContext().getPath();
+            route(exchange, exchange.getRequestURI().getPath()
+                    .substring(contextPath.length()));
+        } catch (IllegalArgumentException badRequest) {
+            sendError(exchange, 400, badRequest.getMessage());
+        } catch (CompletionException failedOperation) {
+            Throwable cause = failedOperation.getCause();
+            sendError(exchange, cause instanceof IllegalArgumentException 
+                    ? 400 : 500, String.valueOf(cause.getMessage()));
+        } catch (RuntimeException unexpected) {
+            sendError(exchange, 500, String.valueOf(unexpected.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    protected Map<String, Object> readJson(HttpExchange exchange) 
+            throws IOException {
+
+        try (InputStream body = exchange.getRequestBody()) {
+            return JsonParser.parseObject(new String(body.readAllBytes(),
+                    StandardCharsets.UTF_8));
+        }
+    }
+
+    protected void sendJson(HttpExchange exchange, int status, String json) 
+            throws IOException {
+
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    protected void sendStatus(HttpExchange exchange, int status) 
+            throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    protected void sendErrors(HttpExchange exchange, int status, 
+            List<String> messages) throws IOException {
+        sendJson(exchange, status, EmployeeJson.errors(messages));
+    }
+
+    /**
+     * Sends an error unless the response has already started
+     */
+    private void sendError(HttpExchange exchange, int status, String message)
+            throws IOException {
+        if (-1 == exchange.getResponseCode()) {
+            sendErrors(exchange, status, List.of(message));
+        }
+    }
+
+    /**
+     * Answers an update with no content, 404 when the row is not found,
+     * 409 when a concurrent update changed it first or 202 when it was
+     * queued to be written later
+     */
+    protected ApiResult updateResult(UpdateResult result) {
+        return switch (result) {
+            case UPDATED -> new ApiResult(204, null);
+            case NOT_FOUND -> new ApiResult(404, null);
+            case CONFLICT -> new ApiResult(409, EmployeeJson.errors(List.of(
+                    "changed by another request, read it and try again")));
+            case QUEUED -> new ApiResult(202, null);
+        };
+    }
+
+    /**
+     * Reads the parameters of the request query string, the last value of
+     * a repeated parameter wins
+     *
+     * @return the decoded parameters, empty if there is no query string
+     */
+    protected Map<String, String> queryParameters(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+
+        if (null == query || query.isEmpty()) {
+            return parameters;
+        }
+
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            String name = separator < 0 ? parameter 
+                    : parameter.substring(0, separator);
+            String value = separator < 0 ? "" 
+                    : parameter.substring(separator + 1);
+
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    protected int parseId(String segment) {
+        try {
+            return Integer.parseInt(segment);
+        } catch (NumberFormatException invalidId) {
+            throw new IllegalArgumentException("Invalid id " + segment);
+        }
+    }
+
+    /**
+     * Reads a field as text, numbers are written without exponent
+     *
+     * @return the text or null if the field is missing
+     */
+    protected String text(Map<String, Object> json, String field) {
+        Object value = json.get(field);
+
+        if (value instanceof Double number) {
+            return BigDecimal.valueOf(number).toPlainString();
+        }
+        return null == value ? null : value.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> object(Map<String, Object> json, 
+            String field) {
+        Object value = json.get(field);
+
+        if (null != value && !(value instanceof Map)) {
+            throw new IllegalArgumentException(field + " must be an object");
+        }
+        return (Map<String, Object>) value;
+    }
+
+    protected void addError(List<String> errors, String field, 
+            String message) {
+        if (null != message) {
+            errors.add(field + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * File : ApiResult.java
+ * Package : com.clarix.employeemanagement.api
+ * Description : Holds the response decided by an api operation
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.api;
+
+/**
+ * Status and json body of a response decided by an operation
+ *
+ * @param status http status code
+ * @param json response body or null for an empty response
+ */
+public record ApiResult(int status, String json) {
+}
@@ -0,0 +1,468 @@
+/*
+ * File : EmployeeHandler.java
+ * Package : com.clarix.employeemanagement.api
+ * Description : Serves the employee endpoints of the api
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.api;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import com.clarix.employeemanagement.controller.AddressController;
+import com.clarix.employeemanagement.controller.EmployeeController;
+import com.clarix.employeemanagement.controller.EmployeeRequestExecutor;
+import com.clarix.employeemanagement.model.Address;
+import com.clarix.employeemanagement.model.Employee;
+import com.clarix.employeemanagement.model.EmployeeMatch;
+import com.clarix.employeemanagement.model.EmployeeSummary;
+import com.clarix.employeemanagement.model.SalaryStats;
+import com.clarix.employeemanagement.repository.EmployeeSearchCriteria;
+import com.clarix.employeemanagement.repository.EmployeeSortField;
+import com.clarix.employeemanagement.repository.PayrollGroup;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Serves the employee endpoints
+ *
+ * GET    /employees        streams every active employee as a json array
+ * GET    /employees/lookup finds up to limit employees whose name or email
+ *                          words start with the words of q, from memory
+ *                          once the name index is warmed up
+ * GET    /employees/payroll sums up salaries by group (all, city, 
+ *                          age_band or active_status), with the median
+ *                          and percentiles when percentiles is true
+ * GET    /employees/search filters by name (prefix), city, pinCode,
+ *                          minSalary, maxSalary, minAge and maxAge, sorted
+ *                          by sort (id, name, salary or age) and order
+ *                          (asc or desc), paged by page and size
+ * POST   /employees        adds an employee with both addresses
+ * GET    /employees/{id}   returns one active employee
+ * PATCH  /employees/{id}   updates name, dateOfBirth, email, phoneNumber
+ *                          or salary
+ * DELETE /employees/{id}   deletes the employee
+ *
+ * Dates are written as yyyy-MM-dd.
+ */
+public class EmployeeHandler extends ApiHandler {
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final int LIST_PAGE_SIZE = 500;
+    private static final int DEFAULT_LOOKUP_LIMIT = 10;
+    private static final int MAX_LOOKUP_LIMIT = 100;
+
+    public EmployeeHandler(EmployeeRequestExecutor requestExecutor) {
+        super(requestExecutor);
+    }
+
+    @Override
+    protected void route(HttpExchange exchange, String path) 
+            throws IOException {
+
+        String method = exchange.getRequestMethod();
+
+        if (path.isEmpty() || "/".equals(path)) {
+            switch (method) {
+                case "GET" -> listEmployees(exchange);
+                case "POST" -> addEmployee(exchange);
+                default -> sendStatus(exchange, 405);
+            }
+            return;
+        }
+
+        if ("/lookup".equals(path)) {
+            if ("GET".equals(method)) {
+                lookupEmployees(exchange);
+            } else {
+                sendStatus(exchange, 405);
+            }
+            return;
+        }
+
+        if ("/payroll".equals(path)) {
+            if ("GET".equals(method)) {
+                summarizeSalaries(exchange);
+            } else {
+                sendStatus(exchange, 405);
+            }
+            return;
+        }
+
+        if ("/search".equals(path)) {
+            if ("GET".equals(method)) {
+                searchEmployees(exchange);
+            } else {
+                sendStatus(exchange, 405);
+            }
+            return;
+        }
+
+        if (path.indexOf('/', 1) > 0) {
+            sendStatus(exchange, 404);
+            return;
+        }
+
+        int id = parseId(path.substring(1));
+        switch (method) {
+            case "GET" -> getEmployee(exchange, id);
+            case "PATCH" -> updateEmployee(exchange, id);
+            case "DELETE" -> deleteEmployee(exchange, id);
+            default -> sendStatus(exchange, 405);
+        }
+    }
+
+    private void listEmployees(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+        exchange.sendResponseHeaders(200, 0);
+
+        // Each page is read under a database permit, and written to the 
+        // client after the permit is released, so a slow client holds at 
+        // most one page in memory and no connection
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                exchange.getResponseBody(), StandardCharsets.UTF_8),
+                OUTPUT_BUFFER_SIZE)) {
+
+            StringBuilder json = new StringBuilder(512);
+            List<EmployeeSummary> page;
+            int lastId = 0;
+            writer.write('[');
+
+            do {
+                int afterId = lastId;
+                page = requestExecutor.submit("listEmployees", 
+                        () -> requestExecutor.getEmployeeController()
+                                .getEmployeeSummariesAfter(afterId,
+                                        LIST_PAGE_SIZE)).join();
+
+                for (EmployeeSummary employee : page) {
+                    json.setLength(0);
+                    if (0 != lastId) {
+                        json.append(',');
+                    }
+                    EmployeeJson.appendEmployee(json, employee);
+                    writer.append(json);
+                    lastId = employee.id();
+                }
+            } while (LIST_PAGE_SIZE == page.size());
+
+            writer.write(']');
+        }
+    }
+
+    private void searchEmployees(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = queryParameters(exchange);
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+
+        criteria.setNamePrefix(parameters.get("name"));
+        criteria.setCity(parameters.get("city"));
+        criteria.setPinCode(parseInteger(parameters, "pinCode"));
+        criteria.setMinSalary(parseDouble(parameters, "minSalary"));
+        criteria.setMaxSalary(parseDouble(parameters, "maxSalary"));
+        criteria.setMinAge(parseInteger(parameters, "minAge"));
+        criteria.setMaxAge(parseInteger(parameters, "maxAge"));
+        if (parameters.containsKey("sort")) {
+            criteria.setSortField(EmployeeSortField.valueOf(
+                    parameters.get("sort").toUpperCase(Locale.ROOT)));
+        }
+        criteria.setDescending("desc".equalsIgnoreCase(
+                parameters.get("order")));
+        if (parameters.containsKey("page")) {
+            criteria.setPageNumber(parseInteger(parameters, "page"));
+        }
+        if (parameters.containsKey("size")) {
+            criteria.setPageSize(parseInteger(parameters, "size"));
+        }
+
+        List<EmployeeSummary> employees = requestExecutor.submit(
+                "searchEmployees", () -> requestExecutor
+                        .getEmployeeController().searchEmployees(criteria))
+                .join();
+
+        StringBuilder json = new StringBuilder(512 * employees.size() + 2);
+        json.append('[');
+        for (int index = 0; index < employees.size(); index++) {
+            if (index > 0) {
+                json.append(',');
+            }
+            EmployeeJson.appendEmployee(json, employees.get(index));
+        }
+        sendJson(exchange, 200, json.append(']').toString());
+    }
+
+    private void summarizeSalaries(HttpExchange exchange) 
+            throws IOException {
+
+        Map<String, String> parameters = queryParameters(exchange);
+        PayrollGroup group = parameters.containsKey("group") 
+                ? PayrollGroup.valueOf(parameters.get("group")
+                        .toUpperCase(Locale.ROOT))
+                : PayrollGroup.ALL;
+        boolean withPercentiles = Boolean.parseBoolean(
+                parameters.get("percentiles"));
+
+        List<SalaryStats> salaryStats = requestExecutor.submit(
+                "summarizeSalaries", () -> requestExecutor
+                        .getEmployeeController()
+                        .summarizeSalaries(group, withPercentiles))
+                .join();
+
+        StringBuilder json = new StringBuilder(
+                256 * salaryStats.size() + 2);
+        json.append('[');
+        for (int index = 0; index < salaryStats.size(); index++) {
+            if (index > 0) {
+                json.append(',');
+            }
+            EmployeeJson.appendSalaryStats(json, salaryStats.get(index));
+        }
+        sendJson(exchange, 200, json.append(']').toString());
+    }
+
+    private void lookupEmployees(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = queryParameters(exchange);
+        String query = parameters.get("q");
+        Integer limit = parseInteger(parameters, "limit");
+        int lookupLimit = null == limit ? DEFAULT_LOOKUP_LIMIT 
+                : Math.min(MAX_LOOKUP_LIMIT, limit);
+
+        List<EmployeeMatch> employees = requestExecutor.submit(
+                "lookupEmployees", () -> requestExecutor
+                        .getEmployeeController()
+                        .lookupEmployees(query, lookupLimit)).join();
+
+        StringBuilder json = new StringBuilder(96 * employees.size() + 2);
+        json.append('[');
+        for (int index = 0; index < employees.size(); index++) {
+            EmployeeMatch employee = employees.get(index);
+            if (index > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(employee.id())
+                    .append(",\"name\":");
+            EmployeeJson.appendString(json, employee.name());
+            json.append(",\"email\":");
+            EmployeeJson.appendString(json, employee.email());
+            json.append('}');
+        }
+        sendJson(exchange, 200, json.append(']').toString());
+    }
+
+    private Integer parseInteger(Map<String, String> parameters, 
+            String name) {
+
+        String value = parameters.get(name);
+        try {
+            return null == value ? null : Integer.valueOf(value);
+        } catch (NumberFormatException invalidNumber) {
+            throw new IllegalArgumentException("Invalid " + name + " " 
+                    + value);
+        }
+    }
+
+    private Double parseDouble(Map<String, String> parameters, String name) {
+        String value = parameters.get(name);
+        try {
+            return null == value ? null : Double.valueOf(value);
+        } catch (NumberFormatException invalidNumber) {
+            throw new IllegalArgumentException("Invalid " + name + " " 
+                    + value);
+        }
+    }
+
+    private void getEmployee(HttpExchange exchange, int id) 
+            throws IOException {
+
+        EmployeeSummary employee = requestExecutor.submit("getEmployee", 
+                () -> requestExecutor.getEmployeeController()
+                        .getEmployeeSummary(id)).join();
+
+        if (null == employee) {
+            sendStatus(exchange, 404);
+            return;
+        }
+
+        StringBuilder json = new StringBuilder(512);
+        EmployeeJson.appendEmployee(json, employee);
+        sendJson(exchange, 200, json.toString());
+    }
+
+    private void addEmployee(HttpExchange exchange) throws IOException {
+        Map<String, Object> request = readJson(exchange);
+
+        ApiResult result = requestExecutor.submit("addEmployee", () -> {
+            EmployeeController employeeController = 
+                    requestExecutor.getEmployeeController();
+            List<String> errors = new ArrayList<>();
+
+            String name = text(request, "name");
+            LocalDate dateOfBirth = readDate(request, errors);
+            String phoneNumber = text(request, "phoneNumber");
+            String salary = text(request, "salary");
+            String email = text(request, "email");
+
+            addError(errors, "name", null == name ? "required"
+                    : employeeController.validateName(name));
+            addError(errors, "phoneNumber", null == phoneNumber ? "required"
+                    : employeeController.validatePhoneNumber(phoneNumber));
+            addError(errors, "salary", null == salary ? "required"
+                    : employeeController.validateSalary(salary));
+            addError(errors, "email", null == email ? "required"
+                    : employeeController.validateEmail(email));
+
+            Address currentAddress = readAddress(request, "currentAddress",
+                    errors);
+            Address permanentAddress = readAddress(request, 
+                    "permanentAddress", errors);
+
+            if (!errors.isEmpty()) {
+                return new ApiResult(400, EmployeeJson.errors(errors));
+            }
+
+            Employee employee = employeeController.saveEmployee(
+                    employeeController.createEmployee(name, dateOfBirth,
+                    Long.parseLong(phoneNumber), Double.parseDouble(salary),
+                    email, currentAddress, permanentAddress));
+
+            StringBuilder json = new StringBuilder(512);
+            EmployeeJson.appendEmployee(json, employee);
+            return new ApiResult(201, json.toString());
+        }).join();
+
+        sendJson(exchange, result.status(), result.json());
+    }
+
+    private void updateEmployee(HttpExchange exchange, int id) 
+            throws IOException {
+
+        Map<String, Object> request = readJson(exchange);
+
+        ApiResult result = requestExecutor.submit("updateEmployee", () -> {
+            EmployeeController employeeController = 
+                    requestExecutor.getEmployeeController();
+
+            if (!employeeController.isEmployeeExist(id)) {
+                return null;
+            }
+
+            List<String> errors = new ArrayList<>();
+            String name = text(request, "name");
+            LocalDate dateOfBirth = request.containsKey("dateOfBirth")
+                    ? readDate(request, errors) : null;
+            String email = text(request, "email");
+            String phoneNumber = text(request, "phoneNumber");
+            String salary = text(request, "salary");
+
+            if (null != name) {
+                addError(errors, "name", employeeController.validateName(name));
+            }
+            if (null != email) {
+                addError(errors, "email", 
+                        employeeController.validateEmail(id, email));
+            }
+            if (null != phoneNumber) {
+                addError(errors, "phoneNumber", employeeController
+                        .validatePhoneNumber(id, phoneNumber));
+            }
+            if (null != salary) {
+                addError(errors, "salary", 
+                        employeeController.validateSalary(salary));
+            }
+
+            if (!errors.isEmpty()) {
+                return new ApiResult(400, EmployeeJson.errors(errors));
+            }
+
+            return updateResult(employeeController.updateEmployee(id, name,
+                    dateOfBirth, email, phoneNumber, salary));
+        }).join();
+
+        if (null == result) {
+            sendStatus(exchange, 404);
+        } else if (null == result.json()) {
+            sendStatus(exchange, result.status());
+        } else {
+            sendJson(exchange, result.status(), result.json());
+        }
+    }
+
+    private void deleteEmployee(HttpExchange exchange, int id) 
+            throws IOException {
+
+        boolean deletedEmployee = requestExecutor.submit("deleteEmployee", 
+                () -> requestExecutor.getEmployeeController()
+                        .deactivateEmployee(id)).join();
+
+        sendStatus(exchange, deletedEmployee ? 204 : 404);
+    }
+
+    private LocalDate readDate(Map<String, Object> request, 
+            List<String> errors) {
+
+        String dateOfBirth = text(request, "dateOfBirth");
+        if (null == dateOfBirth) {
+            errors.add("dateOfBirth: required");
+            return null;
+        }
+
+        try {
+            LocalDate date = LocalDate.parse(dateOfBirth);
+            addError(errors, "dateOfBirth", requestExecutor
+                    .getEmployeeController().validateDateOfBirth(date));
+            return date;
+        } catch (DateTimeParseException invalidDate) {
+            errors.add("dateOfBirth: Invalid date format. Use yyyy-MM-dd");
+            return null;
+        }
+    }
+
+    /**
+     * Validates an address of the request and finds the saved address with
+     * the same content, or creates a new one that is saved along with the
+     * employee, so nothing is written before the whole request is valid
+     *
+     * @return the address or null if it is missing or invalid
+     */
+    private Address readAddress(Map<String, Object> request, String field,
+            List<String> errors) {
+
+        Map<String, Object> address = object(request, field);
+        if (null == address) {
+            errors.add(field + ": required");
+            return null;
+        }
+
+        AddressController addressController = 
+                requestExecutor.getAddressController();
+        String doorNo = text(address, "doorNo");
+        String street = text(address, "street");
+        String city = text(address, "city");
+        String pinCode = text(address, "pinCode");
+        int errorCount = errors.size();
+
+        addError(errors, field + ".doorNo", null == doorNo ? "required"
+                : addressController.validateDoorNo(doorNo));
+        addError(errors, field + ".street", null == street ? "required"
+                : addressController.validateStreet(street));
+        addError(errors, field + ".city", null == city ? "required"
+                : addressController.validateCity(city));
+        addError(errors, field + ".pinCode", null == pinCode ? "required"
+                : addressController.validatePinCode(pinCode));
+
+        return errorCount != errors.size() ? null 
+                : addressController.findAddress(doorNo, street, city,
+                        Integer.parseInt(pinCode));
+    }
+}
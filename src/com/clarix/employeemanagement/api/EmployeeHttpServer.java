@@ -0,0 +1,145 @@
+/*
+ * File : EmployeeHttpServer.java
+ * Package : com.clarix.employeemanagement.api
+ * Description : Serves the employee and address api over http
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.api;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import com.clarix.employeemanagement.controller.EmployeeRequestExecutor;
+import com.clarix.employeemanagement.util.HibernateUtil;
+import com.clarix.employeemanagement.util.WriteBehindStatistics;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves the json api of the employee and address controllers on the
+ * embedded jdk http server. Connections are kept alive between requests.
+ * Requests are accepted by one of these worker models
+ *
+ * virtual   a virtual thread per request (default)
+ * fixed:N   a pool of N platform threads
+ * cached    an unbounded pool of platform threads
+ *
+ * Whatever the worker model, database work goes through the
+ * EmployeeRequestExecutor, which bounds it by the connection pool size.
+ */
+public class EmployeeHttpServer {
+    public static final int DEFAULT_PORT = 8080;
+    public static final String DEFAULT_WORKERS = "virtual";
+    private static final int BACKLOG = 1024;
+
+    private final EmployeeRequestExecutor requestExecutor;
+    private final ExecutorService workers;
+    private final HttpServer httpServer;
+
+    /**
+     * @param port port to listen on, 0 for any free port
+     * @param workerModel virtual, fixed:N or cached
+     * @throws IOException if the port cannot be bound
+     */
+    public EmployeeHttpServer(int port, String workerModel) 
+            throws IOException {
+
+        requestExecutor = new EmployeeRequestExecutor();
+        workers = createWorkers(workerModel);
+        httpServer = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        httpServer.createContext("/employees", 
+                new EmployeeHandler(requestExecutor));
+        httpServer.createContext("/addresses", 
+                new AddressHandler(requestExecutor));
+        httpServer.setExecutor(workers);
+    }
+
+    public EmployeeRequestExecutor getRequestExecutor() {
+        return requestExecutor;
+    }
+
+    /**
+     * @return the port the server listens on
+     */
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    public void start() {
+        httpServer.start();
+    }
+
+    /**
+     * Stops accepting connections, lets the running requests finish for up
+     * to the delay and then stops the workers
+     *
+     * @param delaySeconds seconds to wait for running requests
+     */
+    public void stop(int delaySeconds) {
+        httpServer.stop(delaySeconds);
+        workers.shutdown();
+
+        try {
+            workers.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        requestExecutor.close();
+    }
+
+    private static ExecutorService createWorkers(String workerModel) {
+        if ("virtual".equals(workerModel)) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+        if ("cached".equals(workerModel)) {
+            return Executors.newCachedThreadPool();
+        }
+        if (workerModel.startsWith("fixed:")) {
+            return Executors.newFixedThreadPool(
+                    Integer.parseInt(workerModel.substring(6)));
+        }
+        throw new IllegalArgumentException(
+                "Unknown worker model: " + workerModel);
+    }
+
+    /**
+     * Starts the server until the process is stopped
+     *
+     * @param args optional port and worker model, like 8080 fixed:64
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        String workerModel = args.length > 1 ? args[1] : DEFAULT_WORKERS;
+
+        HibernateUtil.initialize();
+        EmployeeHttpServer server = new EmployeeHttpServer(port, workerModel);
+        server.getRequestExecutor().getEmployeeController()
+                .warmUpContactFilter();
+        server.getRequestExecutor().getEmployeeController()
+                .warmUpNameIndex();
+        server.getRequestExecutor().getEmployeeController()
+                .configureWriteBehind();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(5);
+            WriteBehindStatistics writeBehind = server.getRequestExecutor()
+                    .getEmployeeController().stopWriteBehind();
+            if (null != writeBehind) {
+                System.out.println(writeBehind);
+            }
+            HibernateUtil.shutdown();
+        }));
+
+        server.start();
+        System.out.printf("Listening on port %d with %s workers%n", 
+                server.getPort(), workerModel);
+    }
+}
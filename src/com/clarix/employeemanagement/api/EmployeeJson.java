@@ -0,0 +1,168 @@
+/*
+ * File : EmployeeJson.java
+ * Package : com.clarix.employeemanagement.api
+ * Description : Writes employees, addresses and salary figures as json
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.api;
+
+import java.util.List;
+import com.clarix.employeemanagement.model.Address;
+import com.clarix.employeemanagement.model.Employee;
+import com.clarix.employeemanagement.model.EmployeeSummary;
+import com.clarix.employeemanagement.model.SalaryStats;
+
+/**
+ * Appends employees, addresses, salary figures and error lists as json
+ * text
+ */
+public class EmployeeJson {
+
+    public static void appendEmployee(StringBuilder json, Employee employee) {
+        json.append("{\"id\":").append(employee.getId())
+                .append(",\"name\":");
+        appendString(json, employee.getName());
+        json.append(",\"dateOfBirth\":");
+        appendString(json, null == employee.getDateOfBirth() ? null
+                : employee.getDateOfBirth().toString());
+        json.append(",\"age\":").append(employee.getAge())
+                .append(",\"email\":");
+        appendString(json, employee.getEmail());
+        json.append(",\"phoneNumber\":").append(employee.getPhoneNumber())
+                .append(",\"salary\":").append(employee.getSalary())
+                .append(",\"active\":").append(employee.getActiveStatus())
+                .append(",\"currentAddress\":");
+        appendAddress(json, employee.getCurrentAddress());
+        json.append(",\"permanentAddress\":");
+        appendAddress(json, employee.getPermanentAddress());
+        json.append('}');
+    }
+
+    public static void appendEmployee(StringBuilder json, 
+            EmployeeSummary employee) {
+
+        json.append("{\"id\":").append(employee.id())
+                .append(",\"name\":");
+        appendString(json, employee.name());
+        json.append(",\"dateOfBirth\":");
+        appendString(json, null == employee.dateOfBirth() ? null
+                : employee.dateOfBirth().toString());
+        json.append(",\"age\":").append(employee.age())
+                .append(",\"email\":");
+        appendString(json, employee.email());
+        json.append(",\"phoneNumber\":").append(employee.phoneNumber())
+                .append(",\"salary\":").append(employee.salary())
+                .append(",\"active\":").append(employee.active())
+                .append(",\"currentAddress\":");
+        appendAddress(json, employee.currentAddressId(), 
+                employee.currentDoorNo(), employee.currentStreet(),
+                employee.currentCity(), employee.currentPinCode());
+        json.append(",\"permanentAddress\":");
+        appendAddress(json, employee.permanentAddressId(), 
+                employee.permanentDoorNo(), employee.permanentStreet(),
+                employee.permanentCity(), employee.permanentPinCode());
+        json.append('}');
+    }
+
+    public static void appendSalaryStats(StringBuilder json, 
+            SalaryStats salaryStats) {
+
+        json.append("{\"group\":");
+        appendString(json, salaryStats.group());
+        json.append(",\"count\":").append(salaryStats.count())
+                .append(",\"total\":").append(salaryStats.total())
+                .append(",\"average\":").append(salaryStats.average())
+                .append(",\"minimum\":").append(salaryStats.minimum())
+                .append(",\"maximum\":").append(salaryStats.maximum())
+                .append(",\"median\":");
+        appendNumber(json, salaryStats.median());
+        json.append(",\"percentile90\":");
+        appendNumber(json, salaryStats.percentile90());
+        json.append(",\"percentile99\":");
+        appendNumber(json, salaryStats.percentile99());
+        json.append('}');
+    }
+
+    public static void appendAddress(StringBuilder json, Address address) {
+        if (null == address) {
+            json.append("null");
+            return;
+        }
+
+        appendAddress(json, address.getId(), address.getDoorNo(),
+                address.getStreet(), address.getCity(), 
+                address.getPinCode());
+    }
+
+    private static void appendAddress(StringBuilder json, int id, 
+            String doorNo, String street, String city, int pinCode) {
+
+        json.append("{\"id\":").append(id)
+                .append(",\"doorNo\":");
+        appendString(json, doorNo);
+        json.append(",\"street\":");
+        appendString(json, street);
+        json.append(",\"city\":");
+        appendString(json, city);
+        json.append(",\"pinCode\":").append(pinCode)
+                .append('}');
+    }
+
+    public static String errors(List<String> messages) {
+        StringBuilder json = new StringBuilder("{\"errors\":[");
+
+        for (int index = 0; index < messages.size(); index++) {
+            if (index > 0) {
+                json.append(',');
+            }
+            appendString(json, messages.get(index));
+        }
+
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Appends the number, or null when it is NaN or infinite
+     */
+    public static void appendNumber(StringBuilder json, double value) {
+        if (Double.isFinite(value)) {
+            json.append(value);
+        } else {
+            json.append("null");
+        }
+    }
+
+    public static void appendString(StringBuilder json, String value) {
+        if (null == value) {
+            json.append("null");
+            return;
+        }
+
+        json.append('"');
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+
+            switch (character) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (character < 0x20) {
+                        json.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        json.append(character);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * File : JsonParser.java
+ * Package : com.clarix.employeemanagement.api
+ * Description : Reads json request bodies
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.api;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses json text into maps, lists, strings, numbers (as Double or Long),
+ * booleans and nulls. It is meant for the small request bodies of the
+ * api, not for large documents.
+ */
+public class JsonParser {
+    private final String text;
+    private int position;
+
+    private JsonParser(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parses a json object
+     *
+     * @param text the json text
+     * @return the object as a map of names to values
+     * @throws IllegalArgumentException if the text is not a json object
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> parseObject(String text) {
+        JsonParser parser = new JsonParser(text);
+        Object value = parser.readValue();
+
+        parser.skipWhitespace();
+        if (parser.position != text.length() || !(value instanceof Map)) {
+            throw new IllegalArgumentException("Expected a json object");
+        }
+
+        return (Map<String, Object>) value;
+    }
+
+    private Object readValue() {
+        skipWhitespace();
+        char character = peek();
+
+        return switch (character) {
+            case '{' -> readObject();
+            case '[' -> readArray();
+            case '"' -> readString();
+            case 't' -> readLiteral("true", Boolean.TRUE);
+            case 'f' -> readLiteral("false", Boolean.FALSE);
+            case 'n' -> readLiteral("null", null);
+            default -> readNumber();
+        };
+    }
+
+    private Map<String, Object> readObject() {
+        Map<String, Object> object = new LinkedHashMap<>();
+        expect('{');
+        skipWhitespace();
+
+        if ('}' == peek()) {
+            position++;
+            return object;
+        }
+
+        do {
+            skipWhitespace();
+            String name = readString();
+            skipWhitespace();
+            expect(':');
+            object.put(name, readValue());
+            skipWhitespace();
+        } while (tryConsume(','));
+
+        expect('}');
+        return object;
+    }
+
+    private List<Object> readArray() {
+        List<Object> array = new ArrayList<>();
+        expect('[');
+        skipWhitespace();
+
+        if (']' == peek()) {
+            position++;
+            return array;
+        }
+
+        do {
+            array.add(readValue());
+            skipWhitespace();
+        } while (tryConsume(','));
+
+        expect(']');
+        return array;
+    }
+
+    private String readString() {
+        expect('"');
+        StringBuilder builder = new StringBuilder();
+
+        while (true) {
+            char character = next();
+            if ('"' == character) {
+                return builder.toString();
+            }
+
+            if ('\\' != character) {
+                builder.append(character);
+                continue;
+            }
+
+            char escaped = next();
+            switch (escaped) {
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> {
+                    if (position + 4 > text.length()) {
+                        throw error("Invalid unicode escape");
+                    }
+                    builder.append((char) Integer.parseInt(
+                            text.substring(position, position + 4), 16));
+                    position += 4;
+                }
+                default -> builder.append(escaped);
+            }
+        }
+    }
+
+    private Object readNumber() {
+        int start = position;
+        boolean decimal = false;
+
+        while (position < text.length()) {
+            char character = text.charAt(position);
+            if ('.' == character || 'e' == character || 'E' == character) {
+                decimal = true;
+            } else if (!Character.isDigit(character) && '-' != character 
+                    && '+' != character) {
+                break;
+            }
+            position++;
+        }
+
+        if (start == position) {
+            throw error("Unexpected character");
+        }
+
+        String number = text.substring(start, position);
+        try {
+            return decimal ? (Object) Double.valueOf(number) 
+                    : (Object) Long.valueOf(number);
+        } catch (NumberFormatException invalidNumber) {
+            throw error("Invalid number " + number);
+        }
+    }
+
+    private Object readLiteral(String literal, Object value) {
+        if (!text.startsWith(literal, position)) {
+            throw error("Unexpected character");
+        }
+
+        position += literal.length();
+        return value;
+    }
+
+    private void skipWhitespace() {
+        while (position < text.length() 
+                && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private boolean tryConsume(char expected) {
+        if (position < text.length() && expected == text.charAt(position)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    private char peek() {
+        if (position >= text.length()) {
+            throw error("Unexpected end of json");
+        }
+        return text.charAt(position);
+    }
+
+    private char next() {
+        char character = peek();
+        position++;
+        return character;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " 
+                + position);
+    }
+}
@@ -13,7 +13,9 @@
 package com.clarix.employeemanagement.controller;
 
 import com.clarix.employeemanagement.model.Address;
+import com.clarix.employeemanagement.model.UpdateResult;
 import com.clarix.employeemanagement.service.AddressService;
+import com.clarix.employeemanagement.service.EmployeeService;
 
 /**
  * Manages address details like doorNo, street, city and pinCode
@@ -23,6 +25,7 @@ import com.clarix.employeemanagement.service.AddressService;
  */
 public class AddressController {
     private AddressService addressService;
+    private EmployeeService employeeService;
 
     public AddressService getAddressService() {
         if (null == addressService)
@@ -30,6 +33,13 @@ public class AddressController {
         return addressService;       
     }
 
+    public EmployeeService getEmployeeService() {
+        if (null == employeeService) {
+            employeeService = new EmployeeService();
+        }
+        return employeeService;
+    }
+
     /**
      * Adds a new address detail
      * 
@@ -45,6 +55,37 @@ public class AddressController {
         return getAddressService().addAddress(doorNo, street, city, pinCode);
     }
 
+    /**
+     * Finds the saved address with the same content or creates a new one
+     * that is not yet saved, so it is saved along with its employee
+     *
+     * @param doorNo employee doorNo
+     * @param street employee street
+     * @param city employee city
+     * @param pinCode employee pinCode
+     * @return the existing address or a new unsaved one
+     */
+    public Address findAddress(String doorNo, String street, String city,
+            int pinCode) {
+
+        return getAddressService().findAddress(doorNo, street, city, pinCode);
+    }
+
+    /**
+     * Creates an address that is not yet saved
+     *
+     * @param doorNo employee doorNo
+     * @param street employee street
+     * @param city employee city
+     * @param pinCode employee pinCode
+     * @return the new address
+     */
+    public Address createAddress(String doorNo, String street, String city,
+            int pinCode) {
+
+        return getAddressService().createAddress(doorNo, street, city, pinCode);
+    }
+
     /**
      * Updates the address of the employee 
      * 
@@ -52,15 +93,22 @@ public class AddressController {
      * @param doorNo employee doorNo
      * @param street employee street
      * @param city employee city
-     * @return saved address
+     * @return UPDATED, NOT_FOUND if the address does not exist,
+     *         CONFLICT if it was changed since it was read or another
+     *         saved address already has the new content, or QUEUED when
+     *         write-behind is on
      */
-    public boolean updateAddress(int addressId, String doorNo, String street,
-            String city, int pinCode) {
+    public UpdateResult updateAddress(int addressId, String doorNo, 
+            String street, String city, int pinCode) {
 
-        boolean updatedEmployee = getAddressService().updateAddress(addressId,
+        UpdateResult result = getAddressService().updateAddress(addressId,
                 doorNo, street, city, pinCode);
 
-        return updatedEmployee;
+        if (result.isUpdated()) {
+            getEmployeeService().markAddressChanged(addressId);
+        }
+
+        return result;
     }
 
     public String validateDoorNo(String doorNo) {
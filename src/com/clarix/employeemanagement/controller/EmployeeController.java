@@ -12,10 +12,24 @@
 
 package com.clarix.employeemanagement.controller;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
 import com.clarix.employeemanagement.model.Address;
 import com.clarix.employeemanagement.model.Employee;	
+import com.clarix.employeemanagement.model.EmployeeMatch;
+import com.clarix.employeemanagement.model.EmployeeSummary;
+import com.clarix.employeemanagement.model.ImportReport;
+import com.clarix.employeemanagement.model.SalaryStats;
+import com.clarix.employeemanagement.model.UpdateResult;
+import com.clarix.employeemanagement.repository.EmployeeSearchCriteria;
+import com.clarix.employeemanagement.repository.PayrollGroup;
+import com.clarix.employeemanagement.service.EmployeeImportService;
 import com.clarix.employeemanagement.service.EmployeeService;
+import com.clarix.employeemanagement.service.PayrollAnalytics;
+import com.clarix.employeemanagement.util.WriteBehindStatistics;
 
 /**
  * Manages employee details such as adding, updating, viewing and deleting
@@ -25,6 +39,8 @@ import com.clarix.employeemanagement.service.EmployeeService;
  */
 public class EmployeeController {
     private EmployeeService employeeService;
+    private EmployeeImportService employeeImportService;
+    private PayrollAnalytics payrollAnalytics;
 
     public EmployeeService getEmployeeService() {
         if (null == employeeService) {
@@ -32,6 +48,20 @@ public class EmployeeController {
         }
         return employeeService;
     }
+
+    public EmployeeImportService getEmployeeImportService() {
+        if (null == employeeImportService) {
+            employeeImportService = new EmployeeImportService();
+        }
+        return employeeImportService;
+    }
+
+    public PayrollAnalytics getPayrollAnalytics() {
+        if (null == payrollAnalytics) {
+            payrollAnalytics = new PayrollAnalytics();
+        }
+        return payrollAnalytics;
+    }
     /**
      * Adds a new employee
      * 
@@ -52,14 +82,58 @@ public class EmployeeController {
                 salary, email, currentAddress, permanentAddress);
     }
 
+    /**
+     * Creates an active employee that is not yet saved
+     *
+     * @param name employee name
+     * @param dateOfBirth employee birth date
+     * @param mobile employee mobile number
+     * @param salary employee salary
+     * @param email employee email id
+     * @param currentAddress employee current address
+     * @param permanentAddress employee permanent address
+     * @return the new employee
+     */
+    public Employee createEmployee(String name, LocalDate dateOfBirth,
+            long mobile, double salary, String email, Address currentAddress,
+            Address permanentAddress) {
+
+        return getEmployeeService().createEmployee(name, dateOfBirth, mobile,
+                salary, email, currentAddress, permanentAddress);
+    }
+
+    /**
+     * Saves a new employee along with its unsaved addresses
+     *
+     * @param employee the employee to save
+     * @return the employee with its id
+     */
+    public Employee saveEmployee(Employee employee) {
+        return getEmployeeService().saveEmployee(employee);
+    }
+
+    /**
+     * Imports employees in bulk from a csv file
+     *
+     * @param filePath path of the csv file
+     * @return report of imported and rejected rows
+     * @throws IOException if the file cannot be read
+     */
+    public ImportReport importEmployees(String filePath) throws IOException {
+        return getEmployeeImportService().importEmployees(filePath);
+    }
+
     /**
      * Updates the name of an employee
      *
      * @param id employee identification number
      * @param name employee name
+     * @return UPDATED, NOT_FOUND if no active employee has the id,
+     *         CONFLICT if concurrent updates won every attempt, or QUEUED
+     *         when write-behind is on
      */
-    public void updateName(int id, String name) {
-        getEmployeeService().updateName(id, name);
+    public UpdateResult updateName(int id, String name) {
+        return getEmployeeService().updateName(id, name);
     }
 
     /**
@@ -67,9 +141,12 @@ public class EmployeeController {
      *
      * @param id employee identification number
      * @param dateOfBirth employee date of birth
+     * @return UPDATED, NOT_FOUND if no active employee has the id,
+     *         CONFLICT if concurrent updates won every attempt, or QUEUED
+     *         when write-behind is on
      */
-    public void updateBirthDate(int id, LocalDate dateOfBirth) {
-        getEmployeeService().updateBirthDate(id, dateOfBirth);
+    public UpdateResult updateBirthDate(int id, LocalDate dateOfBirth) {
+        return getEmployeeService().updateBirthDate(id, dateOfBirth);
     }
 
     /**
@@ -77,9 +154,11 @@ public class EmployeeController {
      *
      * @param id employee identification number
      * @param email employee email
+     * @return UPDATED, NOT_FOUND if no active employee has the id, or
+     *         CONFLICT if concurrent updates won every attempt
      */
-    public void updateEmail(int id, String email) {
-        getEmployeeService().updateEmail(id, email);
+    public UpdateResult updateEmail(int id, String email) {
+        return getEmployeeService().updateEmail(id, email);
     }
 
     /**
@@ -87,9 +166,11 @@ public class EmployeeController {
      *
      * @param id employee identification number
      * @param phone employee phone number
+     * @return UPDATED, NOT_FOUND if no active employee has the id, or
+     *         CONFLICT if concurrent updates won every attempt
      */
-    public void updatePhoneNumber(int id, String phone) {
-        getEmployeeService().updatePhoneNumber(id, phone);
+    public UpdateResult updatePhoneNumber(int id, String phone) {
+        return getEmployeeService().updatePhoneNumber(id, phone);
     }
 
     /**
@@ -97,9 +178,68 @@ public class EmployeeController {
      *
      * @param id employee identification number
      * @param validSalary salary to be validated
+     * @return UPDATED, NOT_FOUND if no active employee has the id,
+     *         CONFLICT if concurrent updates won every attempt, or QUEUED
+     *         when write-behind is on
+     */
+    public UpdateResult updateSalary(int id, String validSalary) {
+        return getEmployeeService().updateSalary(id, validSalary);
+    }
+
+    /**
+     * Updates several fields of the employee at once, a null field is left
+     * unchanged
+     *
+     * @param id employee identification number
+     * @param name employee name
+     * @param dateOfBirth employee date of birth
+     * @param email employee email
+     * @param phone employee phone number
+     * @param validSalary validated salary
+     * @return UPDATED, NOT_FOUND if no active employee has the id,
+     *         CONFLICT if concurrent updates won every attempt, or QUEUED
+     *         when write-behind is on
+     */
+    public UpdateResult updateEmployee(int id, String name, 
+            LocalDate dateOfBirth, String email, String phone,
+            String validSalary) {
+
+        return getEmployeeService().updateEmployee(id, name, dateOfBirth,
+                email, phone, validSalary);
+    }
+
+    /**
+     * Replaces the current address of the employee
+     *
+     * @param id employee identification number
+     * @param doorNo address doorNo
+     * @param street address street
+     * @param city address city
+     * @param pinCode address pincode
+     * @return true if an active employee was updated, false otherwise
      */
-    public void updateSalary(int id, String validSalary) {
-        getEmployeeService().updateSalary(id, validSalary);
+    public boolean updateCurrentAddress(int id, String doorNo, String street,
+            String city, int pinCode) {
+
+        return getEmployeeService().updateCurrentAddress(id, doorNo, street,
+                city, pinCode);
+    }
+
+    /**
+     * Replaces the permanent address of the employee
+     *
+     * @param id employee identification number
+     * @param doorNo address doorNo
+     * @param street address street
+     * @param city address city
+     * @param pinCode address pincode
+     * @return true if an active employee was updated, false otherwise
+     */
+    public boolean updatePermanentAddress(int id, String doorNo, 
+            String street, String city, int pinCode) {
+
+        return getEmployeeService().updatePermanentAddress(id, doorNo, 
+                street, city, pinCode);
     }
 
     /**
@@ -112,6 +252,90 @@ public class EmployeeController {
         return getEmployeeService().deleteEmployee(id);
     }
 
+    /**
+     * Marks the employee as inactive
+     *
+     * @param id employee identification number
+     * @return true if an active employee was deleted, false otherwise
+     */
+    public boolean deactivateEmployee(int id) {
+        return getEmployeeService().deactivateEmployee(id);
+    }
+
+    /**
+     * Moves the employees deleted more than the given number of days ago
+     * to the employee archive
+     *
+     * @param inactiveDays days an employee stays deleted before archival
+     * @return number of employees archived
+     */
+    public int archiveInactiveEmployees(int inactiveDays) {
+        return getEmployeeService().archiveInactiveEmployees(inactiveDays);
+    }
+
+    /**
+     * Retrieves an active employee along with the address details as a
+     * flat summary
+     *
+     * @param id employee identification number
+     * @return the employee summary or null if not found
+     */
+    public EmployeeSummary getEmployeeSummary(int id) {
+        return getEmployeeService().getEmployeeSummary(id);
+    }
+
+    /**
+     * Passes every active employee with its addresses, as a flat summary,
+     * to the consumer
+     *
+     * @param consumer receives each employee summary in id order
+     */
+    public void forEachEmployee(Consumer<EmployeeSummary> consumer) {
+        getEmployeeService().forEachEmployee(consumer);
+    }
+
+    /**
+     * Retrieves one page of active employees as flat summaries, in id order
+     *
+     * @param lastId id of the last employee of the previous page, 0 for
+     *        the first page
+     * @param pageSize maximum number of employees in the page
+     * @return employee summaries, fewer than the page size on the last page
+     */
+    public List<EmployeeSummary> getEmployeeSummariesAfter(int lastId,
+            int pageSize) {
+
+        return getEmployeeService().getEmployeeSummariesAfter(lastId, 
+                pageSize);
+    }
+
+    /**
+     * Searches active employees by name prefix, current address city or
+     * pinCode, salary range and age range, sorted and paged
+     *
+     * @param criteria filters, order and page of the search
+     * @return the employees of the requested page
+     */
+    public List<EmployeeSummary> searchEmployees(
+            EmployeeSearchCriteria criteria) {
+
+        return getEmployeeService().searchEmployees(criteria);
+    }
+
+    /**
+     * Summarizes the salaries of each group of employees
+     *
+     * @param group how the employees are grouped
+     * @param withPercentiles true to include the median and percentiles
+     * @return the salary figures of each group in group order
+     */
+    public List<SalaryStats> summarizeSalaries(PayrollGroup group,
+            boolean withPercentiles) {
+
+        return getPayrollAnalytics().summarizeSalaries(group, 
+                withPercentiles);
+    }
+
     /**
      * Display employee information by id
      *
@@ -131,6 +355,16 @@ public class EmployeeController {
         return getEmployeeService().viewAllEmployee();
     }
 
+    /**
+     * Writes all the available employee information as it is read
+     *
+     * @param writer destination of the formatted employee details
+     * @throws IOException if the writer fails
+     */
+    public void viewAllEmployees(Writer writer) throws IOException {
+        getEmployeeService().writeAllEmployees(writer);
+    }
+
     /**
      * Display all the available employee information
      * 
@@ -141,6 +375,69 @@ public class EmployeeController {
         return getEmployeeService().getEmployeeById(id);
     }
 
+    /**
+     * Loads the names and emails of the active employees for lookups
+     */
+    public void warmUpNameIndex() {
+        getEmployeeService().warmUpNameIndex();
+    }
+
+    /**
+     * Finds active employees by the start of the words of their name or
+     * email
+     *
+     * @param query start of one or more words of the name or email
+     * @param limit maximum number of employees to return
+     * @return the matching employees
+     */
+    public List<EmployeeMatch> lookupEmployees(String query, int limit) {
+        return getEmployeeService().lookupEmployees(query, limit);
+    }
+
+    /**
+     * Turns on write-behind of updates when the employee.writeBehind
+     * system property is true
+     */
+    public void configureWriteBehind() {
+        EmployeeService.configureWriteBehind();
+    }
+
+    /**
+     * Writes every queued update and turns write-behind off
+     *
+     * @return the write-behind counters or null when it was off
+     */
+    public WriteBehindStatistics stopWriteBehind() {
+        return EmployeeService.disableWriteBehind();
+    }
+
+    /**
+     * Loads the emails and phone numbers in use for fast uniqueness checks
+     */
+    public void warmUpContactFilter() {
+        getEmployeeService().warmUpContactFilter();
+    }
+
+    /**
+     * Checks if an active employee with the id is present
+     *
+     * @param id employee identification number
+     * @return true if the employee exists, false otherwise
+     */
+    public boolean isEmployeeExist(int id) {
+        return getEmployeeService().isEmployeeExist(id);
+    }
+
+    /**
+     * Retrieves the address ids of an active employee
+     *
+     * @param id employee identification number
+     * @return current and permanent address ids or null if not found
+     */
+    public int[] getAddressIds(int id) {
+        return getEmployeeService().getAddressIds(id);
+    }
+
     /**
      * Validates employee name
      * 
@@ -161,6 +458,18 @@ public class EmployeeController {
         return getEmployeeService().validateEmail(email);
     }
 
+    /**
+     * Validates a new email of an existing employee, the employee's own
+     * email is accepted
+     *
+     * @param id employee identification number
+     * @param email employee email address
+     * @return validation message or null if valid
+     */
+    public String validateEmail(int id, String email) {
+        return getEmployeeService().validateEmail(id, email);
+    }
+
     /**
      * Validates employee date of birth
      *
@@ -181,6 +490,18 @@ public class EmployeeController {
         return getEmployeeService().validatePhoneNumber(phoneNumber);
     }
 
+    /**
+     * Validates a new phone number of an existing employee, the employee's
+     * own number is accepted
+     *
+     * @param id employee identification number
+     * @param phoneNumber employee phoneNumber
+     * @return validation message or null if valid
+     */
+    public String validatePhoneNumber(int id, String phoneNumber) {
+        return getEmployeeService().validatePhoneNumber(id, phoneNumber);
+    }
+
     /**
      * Validates employee salary
      *
@@ -0,0 +1,203 @@
+/*
+ * File : EmployeeRequestExecutor.java
+ * Package : com.clarix.employeemanagement.controller
+ * Description : Runs employee and address operations concurrently
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.controller;
+
+import java.time.LocalDate;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import com.clarix.employeemanagement.model.Address;
+import com.clarix.employeemanagement.model.UpdateResult;
+import com.clarix.employeemanagement.util.HibernateUtil;
+import com.clarix.employeemanagement.util.OperationMetrics;
+import com.clarix.employeemanagement.util.PoolMetrics;
+
+/**
+ * Runs employee and address operations concurrently, each on its own
+ * virtual thread (Java 21). The number of operations using the database
+ * at the same time is bounded by the connection pool size, so callers
+ * can submit thousands of requests without exhausting the pool. The
+ * latency of every operation is recorded by name.
+ *
+ * @see com.clarix.employeemanagement.controller.EmployeeController
+ * @see com.clarix.employeemanagement.controller.AddressController
+ */
+public class EmployeeRequestExecutor implements AutoCloseable {
+    private static final int DEFAULT_CONCURRENCY = 10;
+
+    private final EmployeeController employeeController;
+    private final AddressController addressController;
+    private final ExecutorService executorService;
+    private final Semaphore databasePermits;
+    private final OperationMetrics operationMetrics;
+
+    /**
+     * Bounds the concurrent operations by the connection pool size
+     */
+    public EmployeeRequestExecutor() {
+        this(getPoolSize());
+    }
+
+    /**
+     * @param maxConcurrentOperations operations allowed to run at once
+     */
+    public EmployeeRequestExecutor(int maxConcurrentOperations) {
+        employeeController = new EmployeeController();
+        addressController = new AddressController();
+
+        // Build the lazily created services up front, before any sharing
+        employeeController.getEmployeeService().getEmployeeRepository();
+        employeeController.getEmployeeService().getValidationRules();
+        addressController.getAddressService().getAddressRepository();
+        addressController.getAddressService().getValidationRules();
+
+        executorService = Executors.newVirtualThreadPerTaskExecutor();
+        databasePermits = new Semaphore(maxConcurrentOperations, true);
+        operationMetrics = new OperationMetrics();
+    }
+
+    public EmployeeController getEmployeeController() {
+        return employeeController;
+    }
+
+    public AddressController getAddressController() {
+        return addressController;
+    }
+
+    public OperationMetrics getOperationMetrics() {
+        return operationMetrics;
+    }
+
+    public CompletableFuture<String> addEmployee(String name,
+            LocalDate dateOfBirth, long mobile, double salary, String email,
+            Address currentAddress, Address permanentAddress) {
+
+        return submit("addEmployee", () -> employeeController.addEmployee(
+                name, dateOfBirth, mobile, salary, email, currentAddress,
+                permanentAddress));
+    }
+
+    public CompletableFuture<String> viewEmployeeById(int id) {
+        return submit("viewEmployeeById", 
+                () -> employeeController.viewEmployeeById(id));
+    }
+
+    public CompletableFuture<Boolean> isEmployeeExist(int id) {
+        return submit("isEmployeeExist", 
+                () -> employeeController.isEmployeeExist(id));
+    }
+
+    public CompletableFuture<UpdateResult> updateName(int id, String name) {
+        return submit("updateName", 
+                () -> employeeController.updateName(id, name));
+    }
+
+    public CompletableFuture<UpdateResult> updateBirthDate(int id, 
+            LocalDate dateOfBirth) {
+        return submit("updateBirthDate",
+                () -> employeeController.updateBirthDate(id, dateOfBirth));
+    }
+
+    public CompletableFuture<UpdateResult> updateEmail(int id, String email) {
+        return submit("updateEmail", 
+                () -> employeeController.updateEmail(id, email));
+    }
+
+    public CompletableFuture<UpdateResult> updatePhoneNumber(int id, 
+            String phone) {
+        return submit("updatePhoneNumber",
+                () -> employeeController.updatePhoneNumber(id, phone));
+    }
+
+    public CompletableFuture<UpdateResult> updateSalary(int id, String salary) {
+        return submit("updateSalary", 
+                () -> employeeController.updateSalary(id, salary));
+    }
+
+    public CompletableFuture<String> deleteEmployee(int id) {
+        return submit("deleteEmployee", 
+                () -> employeeController.deleteEmployee(id));
+    }
+
+    public CompletableFuture<Address> addAddress(String doorNo, 
+            String street, String city, int pinCode) {
+        return submit("addAddress", () -> addressController.addAddress(
+                doorNo, street, city, pinCode));
+    }
+
+    public CompletableFuture<UpdateResult> updateAddress(int addressId, 
+            String doorNo, String street, String city, int pinCode) {
+        return submit("updateAddress", () -> addressController
+                .updateAddress(addressId, doorNo, street, city, pinCode));
+    }
+
+    /**
+     * Runs any operation on a virtual thread once a database permit is
+     * free and records its latency, including the wait for the permit
+     *
+     * @param operation name under which the latency is recorded
+     * @param task the operation to run
+     * @return result of the operation
+     */
+    public <T> CompletableFuture<T> submit(String operation, 
+            Callable<T> task) {
+
+        long submittedTime = System.nanoTime();
+
+        return CompletableFuture.supplyAsync(() -> {
+            boolean failed = true;
+            try {
+                databasePermits.acquire();
+                try {
+                    T result = task.call();
+                    failed = false;
+                    return result;
+                } finally {
+                    databasePermits.release();
+                }
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(interruptedException);
+            } catch (Exception exception) {
+                throw new CompletionException(exception);
+            } finally {
+                operationMetrics.record(operation, 
+                        System.nanoTime() - submittedTime, failed);
+            }
+        }, executorService);
+    }
+
+    /**
+     * Stops accepting operations and waits for the running ones
+     */
+    @Override
+    public void close() {
+        executorService.shutdown();
+
+        try {
+            executorService.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int getPoolSize() {
+        PoolMetrics poolMetrics = HibernateUtil.getPoolMetrics();
+        return null == poolMetrics ? DEFAULT_CONCURRENCY 
+                : poolMetrics.maximumPoolSize();
+    }
+}
@@ -19,9 +19,11 @@ public class Address {
 
     private int id;
     private int pinCode;
+    private int version;
     private String city;
     private String doorNo;
     private String street;
+    private String contentHash;
     private List<Employee> employees = new ArrayList<>();
 
     public Address() {}
@@ -41,6 +43,14 @@ public class Address {
         this.id = id;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     public int getPinCode() {
         return pinCode;
     }
@@ -73,6 +83,14 @@ public class Address {
         this.street = street;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public List<Employee> getEmployees() {
         return employees;
     }
@@ -0,0 +1,179 @@
+/*
+ * File : ArchivedEmployee.java
+ * Package : com.clarix.employeemanagement.model
+ * Description : stores an employee moved out of the employee table
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * stores a deleted employee after archival, with a copy of both addresses
+ * so that the address rows can be removed once nobody else uses them
+ */
+public class ArchivedEmployee {
+
+    private int id;
+    private int currentPinCode;
+    private int permanentPinCode;
+    private long phoneNumber;
+    private double salary;
+    private String email;
+    private String name;
+    private String currentDoorNo;
+    private String currentStreet;
+    private String currentCity;
+    private String permanentDoorNo;
+    private String permanentStreet;
+    private String permanentCity;
+    private LocalDate dateOfBirth;
+    private LocalDateTime deactivatedAt;
+    private LocalDateTime archivedAt;
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDate getDateOfBirth() {
+        return dateOfBirth;
+    }
+
+    public void setDateOfBirth(LocalDate dateOfBirth) {
+        this.dateOfBirth = dateOfBirth;
+    }
+
+    public long getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(long phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public double getSalary() {
+        return salary;
+    }
+
+    public void setSalary(double salary) {
+        this.salary = salary;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getCurrentDoorNo() {
+        return currentDoorNo;
+    }
+
+    public void setCurrentDoorNo(String currentDoorNo) {
+        this.currentDoorNo = currentDoorNo;
+    }
+
+    public String getCurrentStreet() {
+        return currentStreet;
+    }
+
+    public void setCurrentStreet(String currentStreet) {
+        this.currentStreet = currentStreet;
+    }
+
+    public String getCurrentCity() {
+        return currentCity;
+    }
+
+    public void setCurrentCity(String currentCity) {
+        this.currentCity = currentCity;
+    }
+
+    public int getCurrentPinCode() {
+        return currentPinCode;
+    }
+
+    public void setCurrentPinCode(int currentPinCode) {
+        this.currentPinCode = currentPinCode;
+    }
+
+    public String getPermanentDoorNo() {
+        return permanentDoorNo;
+    }
+
+    public void setPermanentDoorNo(String permanentDoorNo) {
+        this.permanentDoorNo = permanentDoorNo;
+    }
+
+    public String getPermanentStreet() {
+        return permanentStreet;
+    }
+
+    public void setPermanentStreet(String permanentStreet) {
+        this.permanentStreet = permanentStreet;
+    }
+
+    public String getPermanentCity() {
+        return permanentCity;
+    }
+
+    public void setPermanentCity(String permanentCity) {
+        this.permanentCity = permanentCity;
+    }
+
+    public int getPermanentPinCode() {
+        return permanentPinCode;
+    }
+
+    public void setPermanentPinCode(int permanentPinCode) {
+        this.permanentPinCode = permanentPinCode;
+    }
+
+    public LocalDateTime getDeactivatedAt() {
+        return deactivatedAt;
+    }
+
+    public void setDeactivatedAt(LocalDateTime deactivatedAt) {
+        this.deactivatedAt = deactivatedAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder()
+                .append("Id: ").append(id).append("\n")
+                .append("Name: ").append(name).append("\n")
+                .append("Email: ").append(email).append("\n")
+                .append("Deactivated at: ").append(deactivatedAt).append("\n")
+                .append("Archived at: ").append(archivedAt).append("\n")
+                .toString();
+    }
+}
@@ -13,6 +13,7 @@
 package com.clarix.employeemanagement.model;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * stores personal, contact and salary related information
@@ -23,11 +24,13 @@ public class Employee {
     private int age;
     private int id;
     private int pinCode;
+    private int version;
     private long phoneNumber;
     private double salary;
     private String email;
     private String name;
     private LocalDate dateOfBirth;
+    private LocalDateTime deactivatedAt;
     private Address currentAddress;
     private Address permanentAddress;
 
@@ -115,6 +118,22 @@ public class Employee {
         this.activeStatus = activeStatus;
     }
 
+    public LocalDateTime getDeactivatedAt() {
+        return deactivatedAt;
+    }
+
+    public void setDeactivatedAt(LocalDateTime deactivatedAt) {
+        this.deactivatedAt = deactivatedAt;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     public Address getCurrentAddress() {
         return currentAddress;
     }
@@ -0,0 +1,29 @@
+/*
+ * File : EmployeeMatch.java
+ * Package : com.clarix.employeemanagement.model
+ * Description : Holds an employee found by a name lookup
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.model;
+
+/**
+ * The id, name and email of an active employee, enough to show a lookup
+ * suggestion and fetch the employee by id
+ *
+ * @param id employee identification number
+ * @param name employee name
+ * @param email employee email
+ */
+public record EmployeeMatch(int id, String name, String email) {
+
+    @Override
+    public String toString() {
+        return "Id: " + id + "\tName: " + name + " Email: " + email;
+    }
+}
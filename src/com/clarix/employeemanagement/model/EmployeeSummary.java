@@ -0,0 +1,29 @@
+/*
+ * File : EmployeeSummary.java
+ * Package : com.clarix.employeemanagement.model
+ * Description : Holds the flat view of an employee used for listings
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.model;
+
+import java.time.LocalDate;
+
+/**
+ * Employee details along with both addresses in one flat record. It is
+ * filled directly from the columns of a query, without loading the
+ * Employee and Address entities, and is not tracked by hibernate.
+ */
+public record EmployeeSummary(int id, String name, LocalDate dateOfBirth,
+        int age, String email, long phoneNumber, double salary,
+        boolean active, int currentAddressId, String currentDoorNo,
+        String currentStreet, String currentCity, int currentPinCode,
+        int permanentAddressId, String permanentDoorNo,
+        String permanentStreet, String permanentCity,
+        int permanentPinCode) {
+}
@@ -0,0 +1,83 @@
+/*
+ * File : ImportReport.java
+ * Package : com.clarix.employeemanagement.model
+ * Description : stores the outcome of a bulk employee import
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * stores the number of imported rows, the rejected rows with their reason
+ * and the time taken by a bulk import
+ */
+public class ImportReport {
+
+    private int totalRows;
+    private int importedRows;
+    private long elapsedMillis;
+    private List<String> rejectedRows = new ArrayList<>();
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public int getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(int importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<String> getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public void addRejectedRow(int lineNumber, String reason) {
+        rejectedRows.add("Line " + lineNumber + ": " + reason);
+    }
+
+    public double getRowsPerSecond() {
+        return 0 == elapsedMillis ? importedRows
+                : importedRows * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder()
+                .append("Total rows: ").append(totalRows).append("\n")
+                .append("Imported: ").append(importedRows).append("\n")
+                .append("Rejected: ").append(rejectedRows.size()).append("\n")
+                .append("Time taken (ms): ").append(elapsedMillis).append("\n")
+                .append("Rows per second: ")
+                .append(String.format("%.1f", getRowsPerSecond()))
+                .append("\n");
+
+        for (String rejectedRow : rejectedRows) {
+            builder.append(rejectedRow).append("\n");
+        }
+
+        return builder.toString();
+    }
+}
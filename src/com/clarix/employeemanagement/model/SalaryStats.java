@@ -0,0 +1,33 @@
+/*
+ * File : SalaryStats.java
+ * Package : com.clarix.employeemanagement.model
+ * Description : Holds the salary figures of one group of employees
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.model;
+
+/**
+ * The salary figures of one group of a payroll summary. The median and
+ * percentiles are NaN when the figures were aggregated by the database,
+ * which has no portable percentile function.
+ *
+ * @param group name of the group, e.g. a city or an age band
+ * @param count number of employees in the group
+ * @param total sum of the salaries
+ * @param average mean salary
+ * @param minimum lowest salary
+ * @param maximum highest salary
+ * @param median salary in the middle of the group
+ * @param percentile90 salary that 90 percent of the group earn at most
+ * @param percentile99 salary that 99 percent of the group earn at most
+ */
+public record SalaryStats(String group, long count, double total,
+        double average, double minimum, double maximum, double median,
+        double percentile90, double percentile99) {
+}
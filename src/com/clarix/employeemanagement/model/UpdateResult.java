@@ -0,0 +1,39 @@
+/*
+ * File : UpdateResult.java
+ * Package : com.clarix.employeemanagement.model
+ * Description : outcome of an update of an employee or address
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.model;
+
+/**
+ * outcome of an update of an employee or address
+ */
+public enum UpdateResult {
+
+    /** The row was changed */
+    UPDATED,
+
+    /** No active row with the id exists */
+    NOT_FOUND,
+
+    /** The row was changed by someone else since it was read */
+    CONFLICT,
+
+    /** The change was accepted, a later write-behind flush writes it */
+    QUEUED;
+
+    /**
+     * @return true if the row was changed, false for a queued change that
+     *         is not written yet
+     */
+    public boolean isUpdated() {
+        return UPDATED == this;
+    }
+}
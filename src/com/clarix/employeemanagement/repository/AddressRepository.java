@@ -11,9 +11,12 @@
  */
 package com.clarix.employeemanagement.repository;
 
+import javax.persistence.OptimisticLockException;
+import javax.persistence.PersistenceException;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
 import com.clarix.employeemanagement.model.Address;
+import com.clarix.employeemanagement.model.UpdateResult;
 import com.clarix.employeemanagement.util.HibernateUtil;
 
 /**
@@ -29,14 +32,21 @@ public class AddressRepository {
      *
      * @param address the address details to be added
      * @return saved address
+     * @throws PersistenceException if the row could not be inserted, for
+     *         instance when an address with the same content hash exists
      */
     public Address saveAddress(Address address) {
         try (Session session = HibernateUtil.getSessionFactory()
                 .openSession()) {
 
              Transaction transaction = session.beginTransaction();
-             session.save(address);
-             transaction.commit();
+             try {
+                 session.save(address);
+                 transaction.commit();
+             } catch (PersistenceException exception) {
+                 transaction.rollback();
+                 throw exception;
+             }
 
              return address;
         }
@@ -49,25 +59,53 @@ public class AddressRepository {
      * @return the address belongs to the id 
      */
     public Address getAddressById(int id) {
-        try (Session session = HibernateUtil.getSessionFactory()
-                .openSession()) {
+        try (Session session = HibernateUtil.openReadOnlySession()) {
       
             return session.get(Address.class, id);
         }
     }
 
     /**
-     * Updates the address of the employee
+     * Retrieves an address with the given content hash through the index
+     * on the hash column
+     *
+     * @param contentHash content hash of the address
+     * @return the matching address or null if none
+     */
+    public Address getAddressByContentHash(String contentHash) {
+        String query = """
+                from Address a where a.contentHash = :contentHash
+                """;
+
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+
+            return session.createQuery(query, Address.class)
+                    .setParameter("contentHash", contentHash)
+                    .uniqueResult();
+        }
+    }
+
+    /**
+     * Updates the address of the employee. The update only succeeds while
+     * the row still has the version the address was read with.
      * 
      * @param address the address details to be updated
+     * @return UPDATED, or CONFLICT if the row was changed or removed since
+     *         the address was read
      */
-    public void updateAddress(Address address) {
+    public UpdateResult updateAddress(Address address) {
         try (Session session = HibernateUtil.getSessionFactory()
                 .openSession()) {
 
             Transaction transaction = session.beginTransaction();
-            session.update(address);
-            transaction.commit();
+            try {
+                session.update(address);
+                transaction.commit();
+                return UpdateResult.UPDATED;
+            } catch (OptimisticLockException exception) {
+                transaction.rollback();
+                return UpdateResult.CONFLICT;
+            }
         }
     }
 }
\ No newline at end of file
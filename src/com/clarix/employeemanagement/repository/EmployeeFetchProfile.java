@@ -0,0 +1,42 @@
+/*
+ * File : EmployeeFetchProfile.java
+ * Package : com.clarix.employeemanagement.repository
+ * Description : Lists how much of an employee is loaded
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+package com.clarix.employeemanagement.repository;
+
+/**
+ * Chooses which associations are loaded along with an employee
+ */
+public enum EmployeeFetchProfile {
+
+    /**
+     * Only the employee row, addresses stay lazy and must not be used
+     * once the session is closed
+     */
+    SUMMARY(null),
+
+    /**
+     * The employee with both addresses, joined in the same query
+     */
+    FULL("employee-with-addresses");
+
+    private final String profileName;
+
+    EmployeeFetchProfile(String profileName) {
+        this.profileName = profileName;
+    }
+
+    /**
+     * @return name of the fetch profile in the mapping or null if none
+     */
+    public String getProfileName() {
+        return profileName;
+    }
+}
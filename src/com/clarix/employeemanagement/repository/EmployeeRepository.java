@@ -11,10 +11,43 @@
  */
 package com.clarix.employeemanagement.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.persistence.OptimisticLockException;
+import javax.persistence.PersistenceException;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.StatelessSession;
 import org.hibernate.Transaction;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.query.Query;
+import com.clarix.employeemanagement.model.Address;
 import com.clarix.employeemanagement.model.Employee;
+import com.clarix.employeemanagement.model.EmployeeMatch;
+import com.clarix.employeemanagement.model.EmployeeSummary;
+import com.clarix.employeemanagement.model.SalaryStats;
+import com.clarix.employeemanagement.model.UpdateResult;
 import com.clarix.employeemanagement.util.HibernateUtil;
 
 /**
@@ -23,63 +56,436 @@ import com.clarix.employeemanagement.util.HibernateUtil;
  * @see com.clarix.employeemanagement.model.Employee
  */
 public class EmployeeRepository {
+    private static final int FETCH_SIZE = 1000;
+    private static final String SUMMARY_SELECT = """
+            select new com.clarix.employeemanagement.model.EmployeeSummary(
+                    e.id, e.name, e.dateOfBirth, e.age, e.email,
+                    e.phoneNumber, e.salary, e.activeStatus,
+                    c.id, c.doorNo, c.street, c.city, c.pinCode,
+                    p.id, p.doorNo, p.street, p.city, p.pinCode)
+            from Employee e
+            join e.currentAddress c
+            join e.permanentAddress p
+            """;
 
     /**
-     * Adds a new employee to the database
+     * Adds a new employee to the database. Addresses that are not yet
+     * saved are cascaded in the same transaction, so the employee and its
+     * addresses are stored together or not at all. When another request
+     * saves the same new address first, the unique content hash rejects
+     * the insert, and the transaction is run once more with that address.
      * 
      * @param employee the information of the employee to save
-     * @return the employee with its id 
+     * @return the employee with its id and its age read back
      */
     public Employee addEmployee(Employee employee) {
+        Address currentAddress = employee.getCurrentAddress();
+        Address permanentAddress = employee.getPermanentAddress();
+        boolean newCurrentAddress = isNew(currentAddress);
+        boolean newPermanentAddress = isNew(permanentAddress);
+
+        try {
+            insertEmployee(employee);
+        } catch (PersistenceException exception) {
+            Address savedCurrentAddress = newCurrentAddress 
+                    ? getSavedAddress(exception, currentAddress) : null;
+            Address savedPermanentAddress = newPermanentAddress
+                    ? getSavedAddress(exception, permanentAddress) : null;
+
+            if (null == savedCurrentAddress 
+                    && null == savedPermanentAddress) {
+                throw exception;
+            }
+
+            employee.setId(0);
+            employee.setCurrentAddress(retryAddress(currentAddress,
+                    newCurrentAddress, savedCurrentAddress));
+            employee.setPermanentAddress(retryAddress(permanentAddress,
+                    newPermanentAddress, savedPermanentAddress));
+            insertEmployee(employee);
+        }
+        return employee; 
+    }
+
+    /**
+     * Adds many employees along with their addresses in one transaction.
+     * Inserts are sent in JDBC batches and the session is flushed and
+     * cleared after every batch to keep memory flat.
+     *
+     * @param employees the employees to save
+     * @param batchSize number of employees per JDBC batch
+     */
+    public void addEmployees(List<Employee> employees, int batchSize) {
         try (Session session = HibernateUtil.getSessionFactory()
                 .openSession()) {
 
+            session.setJdbcBatchSize(batchSize);
             Transaction transaction = session.beginTransaction();
-            session.save(employee);
-            transaction.commit();
 
-            return employee; 
+            try {
+                int savedEmployees = 0;
+                for (Employee employee : employees) {
+                    attachAddresses(session, employee);
+                    session.save(employee);
+
+                    if (0 == ++savedEmployees % batchSize) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+                transaction.commit();
+            } catch (RuntimeException exception) {
+                transaction.rollback();
+                throw exception;
+            }
+        }
+
+        for (Employee employee : employees) {
+            evictEmployee(employee.getId());
         }
     }
 
     /**
-     * Retrieves employee by id
+     * Retrieves employee by id along with both addresses
      *  
      * @param id employee identification number
      * @return employee object or null if not found
      */
     public Employee getEmployeeById(int id) {
-        try (Session session = HibernateUtil.getSessionFactory()
-                .openSession()) {
- 
-            return session.get(Employee.class, id);
+        return getEmployeeById(id, EmployeeFetchProfile.FULL);
+    }
+
+    /**
+     * Retrieves employee by id, loading only what the profile asks for
+     *
+     * @param id employee identification number
+     * @param fetchProfile associations to load with the employee
+     * @return employee object or null if not found
+     */
+    public Employee getEmployeeById(int id, 
+            EmployeeFetchProfile fetchProfile) {
+
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+
+            if (null != fetchProfile.getProfileName()) {
+                session.enableFetchProfile(fetchProfile.getProfileName());
+            }
+            Employee employee = session.get(Employee.class, id);
+
+            if (EmployeeFetchProfile.FULL == fetchProfile) {
+                initializeAddresses(employee);
+            }
+            return employee;
+        }
+    }
+
+    /**
+     * Checks if an active employee exists without loading it
+     *
+     * @param id employee identification number
+     * @return true if the employee exists and is active, false otherwise
+     */
+    public boolean isEmployeeExist(int id) {
+        String query = """
+                select e.id from Employee e
+                where e.id = :id and e.activeStatus = true
+                """;
+
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+
+            return null != session.createQuery(query, Integer.class)
+                    .setParameter("id", id).uniqueResult();
         }
     }
 
     /**
-     * Updates employee details in the database
+     * Retrieves the address ids of an active employee without loading the
+     * employee or its addresses
+     *
+     * @param id employee identification number
+     * @return current and permanent address ids or null if not found
+     */
+    public int[] getAddressIds(int id) {
+        String query = """
+                select e.currentAddress.id, e.permanentAddress.id 
+                from Employee e
+                where e.id = :id and e.activeStatus = true
+                """;
+
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+
+            Object[] addressIds = session.createQuery(query, Object[].class)
+                    .setParameter("id", id).uniqueResult();
+
+            return null == addressIds ? null : new int[] {
+                    (Integer) addressIds[0], (Integer) addressIds[1]};
+        }
+    }
+
+    /**
+     * Updates employee details in the database. The update only succeeds
+     * while the row still has the version the employee was read with.
      * 
      * @param employee the entity to be updated
+     * @return UPDATED, or CONFLICT if the row was changed or removed since
+     *         the employee was read
+     */
+    public UpdateResult updateEmployee(Employee employee) {
+        try (Session session = HibernateUtil.getSessionFactory()
+                .openSession()) {
+
+            Transaction transaction = session.beginTransaction();
+            try {
+                session.update(employee);
+                transaction.commit();
+            } catch (OptimisticLockException exception) {
+                transaction.rollback();
+                return UpdateResult.CONFLICT;
+            }
+        }
+
+        evictEmployee(employee.getId());
+        return UpdateResult.UPDATED;
+    }
+
+    /**
+     * Applies a change to an active employee within one transaction. The
+     * entity is read from the second level cache when present and, since
+     * the mapping uses dynamic update, only the changed columns are written.
+     * The write checks the version read, so a concurrent update of the
+     * same employee in between is reported instead of overwritten.
+     *
+     * @param id employee identification number
+     * @param patch the change to apply to the employee
+     * @return UPDATED, NOT_FOUND if no active employee has the id, or
+     *         CONFLICT if the employee was changed since it was read
+     */
+    public UpdateResult patchEmployee(int id, Consumer<Employee> patch) {
+        try (Session session = HibernateUtil.getSessionFactory()
+                .openSession()) {
+
+            Transaction transaction = session.beginTransaction();
+            try {
+                Employee employee = session.get(Employee.class, id);
+
+                if (null == employee || !employee.isActive()) {
+                    transaction.commit();
+                    return UpdateResult.NOT_FOUND;
+                }
+
+                LocalDate dateOfBirth = employee.getDateOfBirth();
+                patch.accept(employee);
+                transaction.commit();
+
+                if (!dateOfBirth.equals(employee.getDateOfBirth())) {
+                    evictEmployee(id);
+                }
+                return UpdateResult.UPDATED;
+            } catch (OptimisticLockException exception) {
+                transaction.rollback();
+                return UpdateResult.CONFLICT;
+            }
+        }
+    }
+
+    /**
+     * Applies many changes to employees and addresses in one transaction.
+     * Rows are read with one query per batch, only the changed columns
+     * are written, and the updates are sent in JDBC batches. Deleted
+     * employees are left unchanged. Once the transaction is committed,
+     * every row written is passed to its consumer.
+     *
+     * @param employeePatches change to apply per employee id
+     * @param addressPatches change to apply per address id
+     * @param batchSize number of rows read and written at a time
+     * @param employeeWritten receives each employee written
+     * @param addressWritten receives each address written
+     */
+    public void patchInOneTransaction(
+            Map<Integer, Consumer<Employee>> employeePatches,
+            Map<Integer, Consumer<Address>> addressPatches, int batchSize,
+            Consumer<Employee> employeeWritten, 
+            Consumer<Address> addressWritten) {
+
+        String employeeQuery = "from Employee e where e.id in (:ids)";
+        String addressQuery = "from Address a where a.id in (:ids)";
+        List<Integer> bornOnOtherDate = new ArrayList<>();
+        List<Employee> writtenEmployees = new ArrayList<>();
+        List<Address> writtenAddresses = new ArrayList<>();
+
+        try (Session session = HibernateUtil.getSessionFactory()
+                .openSession()) {
+
+            session.setJdbcBatchSize(batchSize);
+            Transaction transaction = session.beginTransaction();
+
+            try {
+                List<Integer> employeeIds = 
+                        new ArrayList<>(employeePatches.keySet());
+                for (int start = 0; start < employeeIds.size();
+                        start += batchSize) {
+
+                    for (Employee employee : session
+                            .createQuery(employeeQuery, Employee.class)
+                            .setParameterList("ids", employeeIds.subList(
+                                    start, Math.min(employeeIds.size(), 
+                                            start + batchSize)))
+                            .list()) {
+
+                        if (employee.isActive()) {
+                            LocalDate dateOfBirth = employee.getDateOfBirth();
+                            employeePatches.get(employee.getId())
+                                    .accept(employee);
+
+                            if (!dateOfBirth.equals(
+                                    employee.getDateOfBirth())) {
+                                bornOnOtherDate.add(employee.getId());
+                            }
+                            writtenEmployees.add(employee);
+                        }
+                    }
+                    session.flush();
+                    session.clear();
+                }
+
+                List<Integer> addressIds = 
+                        new ArrayList<>(addressPatches.keySet());
+                for (int start = 0; start < addressIds.size();
+                        start += batchSize) {
+
+                    for (Address address : session
+                            .createQuery(addressQuery, Address.class)
+                            .setParameterList("ids", addressIds.subList(
+                                    start, Math.min(addressIds.size(), 
+                                            start + batchSize)))
+                            .list()) {
+
+                        addressPatches.get(address.getId()).accept(address);
+                        writtenAddresses.add(address);
+                    }
+                    session.flush();
+                    session.clear();
+                }
+                transaction.commit();
+            } catch (RuntimeException exception) {
+                transaction.rollback();
+                throw exception;
+            }
+        }
+
+        for (int id : bornOnOtherDate) {
+            evictEmployee(id);
+        }
+        writtenEmployees.forEach(employeeWritten);
+        writtenAddresses.forEach(addressWritten);
+    }
+
+    /**
+     * Replaces the current or permanent address of an active employee in
+     * one transaction. An address that is already saved is linked as it is.
+     * Otherwise the old address is changed in place when no one else uses
+     * it, or the new address is saved so that the employees sharing the
+     * old one keep it. When another request saves the same new address
+     * first, the transaction is run once more to link that address.
+     *
+     * @param id employee identification number
+     * @param address the saved address to link or the new content
+     * @param permanentAddress true for the permanent address, false for
+     *        the current address
+     * @return the address now linked or null if the employee is not found
      */
-    public void updateEmployee(Employee employee) {
+    public Address replaceAddress(int id, Address address, 
+            boolean permanentAddress) {
+
+        boolean newAddress = isNew(address);
+
+        try {
+            return linkAddress(id, address, permanentAddress);
+        } catch (PersistenceException exception) {
+            Address savedAddress = newAddress 
+                    ? getSavedAddress(exception, address) : null;
+
+            if (null == savedAddress) {
+                throw exception;
+            }
+            return linkAddress(id, savedAddress, permanentAddress);
+        }
+    }
+
+    private Address linkAddress(int id, Address address, 
+            boolean permanentAddress) {
+
+        String query = """
+                select count(e.id) from Employee e
+                where e.currentAddress.id = :addressId
+                or e.permanentAddress.id = :addressId
+                """;
+
         try (Session session = HibernateUtil.getSessionFactory()
                 .openSession()) {
 
             Transaction transaction = session.beginTransaction();
-            session.update(employee);
-            transaction.commit();  
+
+            try {
+                Employee employee = session.get(Employee.class, id);
+
+                if (null == employee || !employee.isActive()) {
+                    transaction.commit();
+                    return null;
+                }
+
+                Address oldAddress = permanentAddress 
+                        ? employee.getPermanentAddress() 
+                        : employee.getCurrentAddress();
+                Address linkedAddress;
+
+                if (0 != address.getId()) {
+                    linkedAddress = attachAddress(session, address);
+                } else if (null != oldAddress
+                        && oldAddress.getId() != otherAddressId(employee, 
+                                permanentAddress)
+                        && 1 == session.createQuery(query, Long.class)
+                                .setParameter("addressId", oldAddress.getId())
+                                .uniqueResult()) {
+
+                    oldAddress.setDoorNo(address.getDoorNo());
+                    oldAddress.setStreet(address.getStreet());
+                    oldAddress.setCity(address.getCity());
+                    oldAddress.setPinCode(address.getPinCode());
+                    oldAddress.setContentHash(address.getContentHash());
+                    linkedAddress = oldAddress;
+                } else {
+                    session.save(address);
+                    linkedAddress = address;
+                }
+
+                if (permanentAddress) {
+                    employee.setPermanentAddress(linkedAddress);
+                } else {
+                    employee.setCurrentAddress(linkedAddress);
+                }
+                transaction.commit();
+
+                return linkedAddress;
+            } catch (RuntimeException exception) {
+                transaction.rollback();
+                throw exception;
+            }
         }
     }
 
     /**
-     * Deletes an employee
+     * Deletes an employee by marking it inactive and recording when, so
+     * that the archival job can move it out later. The version is
+     * incremented, so an update based on an earlier read conflicts.
      *
      * @param id employee identification number	
      * @return true if employee added, false otherwise
      */
     public boolean deleteEmployee(int id) {
         String query = """
-            update Employee set activeStatus = false
+            update versioned Employee 
+            set activeStatus = false, deactivatedAt = :deactivatedAt
             where id = :id and activeStatus = true
             """;
 
@@ -88,12 +494,116 @@ public class EmployeeRepository {
 
             Transaction transaction = session.beginTransaction();
             int deletedEmployee = session.createQuery(query)
+                    .setParameter("deactivatedAt", LocalDateTime.now())
                     .setParameter("id", id).executeUpdate();
             transaction.commit();
             return deletedEmployee > 0;
         }
     }
 
+    /**
+     * Moves one batch of employees deleted before the given time to the
+     * employee archive in a single transaction. The employees are copied
+     * with their addresses, removed from the employee table, and their
+     * addresses are removed too when no other employee uses them.
+     *
+     * @param deactivatedBefore employees deleted before this are archived
+     * @param batchSize maximum number of employees to archive
+     * @param archivedEmployee receives the id of every employee archived
+     * @param removedAddress receives the id of every address removed
+     * @return number of employees archived, less than the batch size when
+     *         no more are left
+     */
+    public int archiveEmployees(LocalDateTime deactivatedBefore, 
+            int batchSize, IntConsumer archivedEmployee, 
+            IntConsumer removedAddress) {
+
+        String idQuery = """
+                select e.id, e.currentAddress.id, e.permanentAddress.id
+                from Employee e
+                where e.activeStatus = false
+                and e.deactivatedAt < :deactivatedBefore
+                order by e.deactivatedAt
+                """;
+        String archiveQuery = """
+                insert into ArchivedEmployee (id, name, dateOfBirth,
+                        phoneNumber, salary, email, deactivatedAt,
+                        archivedAt, currentDoorNo, currentStreet,
+                        currentCity, currentPinCode, permanentDoorNo,
+                        permanentStreet, permanentCity, permanentPinCode)
+                select e.id, e.name, e.dateOfBirth, e.phoneNumber,
+                        e.salary, e.email, e.deactivatedAt,
+                        current_timestamp(), c.doorNo, c.street, c.city,
+                        c.pinCode, p.doorNo, p.street, p.city, p.pinCode
+                from Employee e
+                join e.currentAddress c
+                join e.permanentAddress p
+                where e.id in (:ids)
+                """;
+        String deleteQuery = "delete from Employee where id in (:ids)";
+        String usedAddressQuery = """
+                select e.currentAddress.id, e.permanentAddress.id
+                from Employee e
+                where e.currentAddress.id in (:addressIds)
+                or e.permanentAddress.id in (:addressIds)
+                """;
+        String deleteAddressQuery = "delete from Address where id in (:ids)";
+
+        try (Session session = HibernateUtil.getSessionFactory()
+                .openSession()) {
+
+            Transaction transaction = session.beginTransaction();
+
+            try {
+                List<Object[]> rows = session
+                        .createQuery(idQuery, Object[].class)
+                        .setParameter("deactivatedBefore", deactivatedBefore)
+                        .setMaxResults(batchSize).list();
+
+                if (rows.isEmpty()) {
+                    transaction.commit();
+                    return 0;
+                }
+
+                List<Integer> ids = new ArrayList<>();
+                Set<Integer> addressIds = new HashSet<>();
+                for (Object[] row : rows) {
+                    ids.add((Integer) row[0]);
+                    addressIds.add((Integer) row[1]);
+                    addressIds.add((Integer) row[2]);
+                }
+
+                session.createQuery(archiveQuery)
+                        .setParameterList("ids", ids).executeUpdate();
+                session.createQuery(deleteQuery)
+                        .setParameterList("ids", ids).executeUpdate();
+
+                for (Object[] usedAddressIds : session
+                        .createQuery(usedAddressQuery, Object[].class)
+                        .setParameterList("addressIds", addressIds)
+                        .list()) {
+
+                    addressIds.remove(usedAddressIds[0]);
+                    addressIds.remove(usedAddressIds[1]);
+                }
+
+                if (!addressIds.isEmpty()) {
+                    session.createQuery(deleteAddressQuery)
+                            .setParameterList("ids", addressIds)
+                            .executeUpdate();
+                }
+                transaction.commit();
+
+                ids.forEach(archivedEmployee::accept);
+                addressIds.forEach(removedAddress::accept);
+                return ids.size();
+            } catch (RuntimeException exception) {
+                transaction.rollback();
+                throw exception;
+            }
+        }
+    }
+
     /**
      * Retrieves an active employee along with the address details
      * 
@@ -108,11 +618,14 @@ public class EmployeeRepository {
                 where e.id = :id and e.activeStatus = true
                 """;
 
-        try (Session session = HibernateUtil.getSessionFactory()
-                .openSession()) {
+        try (Session session = HibernateUtil.openReadOnlySession()) {
 
-            return session.createQuery(query, Employee.class)
-                    .setParameter("id", id).uniqueResult();
+            Employee employee = session.createQuery(query, Employee.class)
+                    .setParameter("id", id)
+                    .setCacheable(true).uniqueResult();
+
+            initializeAddresses(employee);
+            return employee;
         }
     }
 
@@ -129,55 +642,711 @@ public class EmployeeRepository {
                 where e.activeStatus = true
                 """;
 
-        try (Session session = HibernateUtil.getSessionFactory()
-                .openSession()) {
+        try (Session session = HibernateUtil.openReadOnlySession()) {
 
             return session.createQuery(query, Employee.class).list();
         }
     }
 
     /**
-     * Checks if an email already exists in the database
+     * Retrieves one page of active employees with address details, ordered
+     * by id. Pass the id of the last employee of the previous page to get
+     * the next one (0 for the first page).
+     *
+     * @param lastId id of the last employee already read
+     * @param pageSize maximum number of employees in the page
+     * @return list of employees, empty when there are no more pages
+     */
+    public List<Employee> viewEmployeesAfter(int lastId, int pageSize) {
+        String query = """
+                from Employee e 
+                join fetch e.currentAddress
+                join fetch e.permanentAddress
+                where e.activeStatus = true and e.id > :lastId
+                order by e.id
+                """;
+
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+
+            return session.createQuery(query, Employee.class)
+                    .setParameter("lastId", lastId)
+                    .setMaxResults(pageSize).list();
+        }
+    }
+
+    /**
+     * Streams all active employees with address details, ordered by id.
+     * Rows are read through a forward only cursor of a stateless session,
+     * which keeps no persistence context, so memory does not grow with
+     * the table. The stream must be closed to release the session.
+     *
+     * @param chunkSize number of rows fetched from the database at a time
+     * @return stream of employees
+     */
+    public Stream<Employee> streamAllEmployees(int chunkSize) {
+        String query = """
+                from Employee e 
+                join fetch e.currentAddress
+                join fetch e.permanentAddress
+                where e.activeStatus = true
+                order by e.id
+                """;
+
+        StatelessSession session = HibernateUtil.getSessionFactory()
+                .openStatelessSession();
+        try {
+            ScrollableResults results = session
+                    .createQuery(query, Employee.class)
+                    .setFetchSize(chunkSize)
+                    .scroll(ScrollMode.FORWARD_ONLY);
+
+            Spliterator<Employee> spliterator = 
+                    new Spliterators.AbstractSpliterator<Employee>(
+                    Long.MAX_VALUE, Spliterator.ORDERED
+                    | Spliterator.NONNULL) {
+
+                @Override
+                public boolean tryAdvance(Consumer<? super Employee> action) {
+                    if (!results.next()) {
+                        return false;
+                    }
+
+                    action.accept((Employee) results.get(0));
+                    return true;
+                }
+            };
+
+            return StreamSupport.stream(spliterator, false).onClose(() -> {
+                results.close();
+                session.close();
+            });
+        } catch (RuntimeException exception) {
+            session.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Passes every active employee with address details to the consumer,
+     * chunk by chunk, without holding the whole table in memory
+     *
+     * @param chunkSize number of rows fetched from the database at a time
+     * @param consumer receives each employee in id order
+     */
+    public void forEachEmployee(int chunkSize, Consumer<Employee> consumer) {
+        try (Stream<Employee> employees = streamAllEmployees(chunkSize)) {
+            employees.forEach(consumer);
+        }
+    }
+
+    /**
+     * Retrieves an active employee as a flat summary, read straight from
+     * the columns without loading any entity
+     *
+     * @param id employee identification number
+     * @return the employee summary or null if not found
+     */
+    public EmployeeSummary viewEmployeeSummaryById(int id) {
+        String query = SUMMARY_SELECT + """
+                where e.id = :id and e.activeStatus = true
+                """;
+
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+            return session.createQuery(query, EmployeeSummary.class)
+                    .setParameter("id", id)
+                    .setCacheable(true)
+                    .uniqueResult();
+        }
+    }
+
+    /**
+     * Retrieves one page of active employees as flat summaries, ordered by
+     * id. Pass the id of the last employee of the previous page to get
+     * the next one (0 for the first page).
+     *
+     * @param lastId id of the last employee already read
+     * @param pageSize maximum number of employees in the page
+     * @return employee summaries, fewer than the page size on the last page
+     */
+    public List<EmployeeSummary> viewEmployeeSummariesAfter(int lastId, 
+            int pageSize) {
+
+        String query = SUMMARY_SELECT + """
+                where e.activeStatus = true and e.id > :lastId
+                order by e.id
+                """;
+
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+            return session.createQuery(query, EmployeeSummary.class)
+                    .setParameter("lastId", lastId)
+                    .setMaxResults(pageSize).list();
+        }
+    }
+
+    /**
+     * Streams all active employees as flat summaries, ordered by id,
+     * through a forward only cursor of a stateless session. The stream
+     * must be closed to release the session.
+     *
+     * @param chunkSize number of rows fetched from the database at a time
+     * @return stream of employee summaries
+     */
+    public Stream<EmployeeSummary> streamEmployeeSummaries(int chunkSize) {
+        String query = SUMMARY_SELECT + """
+                where e.activeStatus = true
+                order by e.id
+                """;
+
+        StatelessSession session = HibernateUtil.getSessionFactory()
+                .openStatelessSession();
+        try {
+            ScrollableResults results = session
+                    .createQuery(query, EmployeeSummary.class)
+                    .setFetchSize(chunkSize)
+                    .scroll(ScrollMode.FORWARD_ONLY);
+
+            Spliterator<EmployeeSummary> spliterator = 
+                    new Spliterators.AbstractSpliterator<EmployeeSummary>(
+                    Long.MAX_VALUE, Spliterator.ORDERED
+                    | Spliterator.NONNULL) {
+
+                @Override
+                public boolean tryAdvance(
+                        Consumer<? super EmployeeSummary> action) {
+
+                    if (!results.next()) {
+                        return false;
+                    }
+
+                    action.accept((EmployeeSummary) results.get(0));
+                    return true;
+                }
+            };
+
+            return StreamSupport.stream(spliterator, false).onClose(() -> {
+                results.close();
+                session.close();
+            });
+        } catch (RuntimeException exception) {
+            session.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Passes every active employee as a flat summary to the consumer, in
+     * id order, without holding the whole table in memory
+     *
+     * @param chunkSize number of rows fetched from the database at a time
+     * @param consumer receives each employee summary
+     */
+    public void forEachEmployeeSummary(int chunkSize, 
+            Consumer<EmployeeSummary> consumer) {
+
+        try (Stream<EmployeeSummary> employees = 
+                streamEmployeeSummaries(chunkSize)) {
+
+            employees.forEach(consumer);
+        }
+    }
+
+    /**
+     * Passes every employee, active or deleted, as a flat summary to the
+     * consumer, in id order, read through a cursor of a stateless session
+     *
+     * @param consumer receives each employee summary
+     */
+    public void forEachEmployeeSummaryWithDeleted(
+            Consumer<EmployeeSummary> consumer) {
+
+        String query = SUMMARY_SELECT + "order by e.id";
+
+        try (StatelessSession session = HibernateUtil.getSessionFactory()
+                .openStatelessSession();
+                ScrollableResults results = session
+                        .createQuery(query, EmployeeSummary.class)
+                        .setFetchSize(FETCH_SIZE)
+                        .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            while (results.next()) {
+                consumer.accept((EmployeeSummary) results.get(0));
+            }
+        }
+    }
+
+    /**
+     * Retrieves the given employees, active or deleted, as flat summaries
+     *
+     * @param ids employee identification numbers
+     * @return the summaries of the employees that still exist
+     */
+    public List<EmployeeSummary> getEmployeeSummaries(
+            Collection<Integer> ids) {
+
+        String query = SUMMARY_SELECT + "where e.id in (:ids)";
+
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+            return session.createQuery(query, EmployeeSummary.class)
+                    .setParameterList("ids", ids).list();
+        }
+    }
+
+    /**
+     * Passes the id, name and email of every active employee to the
+     * consumer, read through a cursor without loading the employees
+     *
+     * @param consumer receives each employee match
+     */
+    public void forEachEmployeeMatch(Consumer<EmployeeMatch> consumer) {
+        String query = """
+                select new com.clarix.employeemanagement.model.EmployeeMatch(
+                        e.id, e.name, e.email)
+                from Employee e
+                where e.activeStatus = true
+                """;
+
+        try (StatelessSession session = HibernateUtil.getSessionFactory()
+                .openStatelessSession();
+                ScrollableResults results = session
+                        .createQuery(query, EmployeeMatch.class)
+                        .setFetchSize(FETCH_SIZE)
+                        .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            while (results.next()) {
+                consumer.accept((EmployeeMatch) results.get(0));
+            }
+        }
+    }
+
+    /**
+     * Passes the id, name and email of the active employees, in name
+     * order, whose lower case name or email contains every one of the
+     * words to the consumer, until the consumer returns false. Containing
+     * a word cannot use an index, so this reads through a cursor.
+     *
+     * @param words lower case words
+     * @param consumer receives each employee match, returns false to stop
+     */
+    public void forEachEmployeeMatchContaining(String[] words,
+            java.util.function.Predicate<EmployeeMatch> consumer) {
+
+        StringBuilder query = new StringBuilder("""
+                select new com.clarix.employeemanagement.model.EmployeeMatch(
+                        e.id, e.name, e.email)
+                from Employee e
+                where e.activeStatus = true
+                """);
+        for (int index = 0; index < words.length; index++) {
+            query.append(" and (locate(:word").append(index)
+                    .append(", lower(e.name)) > 0 or locate(:word")
+                    .append(index).append(", lower(e.email)) > 0)");
+        }
+        query.append(" order by e.name, e.id");
+
+        try (StatelessSession session = HibernateUtil.getSessionFactory()
+                .openStatelessSession()) {
+
+            Query<EmployeeMatch> matchQuery = session.createQuery(
+                    query.toString(), EmployeeMatch.class);
+            for (int index = 0; index < words.length; index++) {
+                matchQuery.setParameter("word" + index, words[index]);
+            }
+
+            try (ScrollableResults results = matchQuery
+                    .setFetchSize(FETCH_SIZE)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+
+                while (results.next()) {
+                    if (!consumer.test((EmployeeMatch) results.get(0))) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Searches active employees with any combination of the criteria
+     * filters and returns one sorted page of flat summaries. Only the
+     * filters that are set become part of the query, all values are bound
+     * as parameters, and every filtered column is indexed.
+     *
+     * @param criteria filters, order and page of the search
+     * @return the employees of the requested page, empty past the last
+     */
+    public List<EmployeeSummary> searchEmployees(
+            EmployeeSearchCriteria criteria) {
+
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+            CriteriaBuilder builder = session.getCriteriaBuilder();
+            CriteriaQuery<EmployeeSummary> query = 
+                    builder.createQuery(EmployeeSummary.class);
+            Root<Employee> employee = query.from(Employee.class);
+            Join<Employee, Address> currentAddress = 
+                    employee.join("currentAddress");
+            Join<Employee, Address> permanentAddress = 
+                    employee.join("permanentAddress");
+
+            query.select(builder.construct(EmployeeSummary.class,
+                    employee.get("id"), employee.get("name"),
+                    employee.get("dateOfBirth"), employee.get("age"),
+                    employee.get("email"), employee.get("phoneNumber"),
+                    employee.get("salary"), employee.get("activeStatus"),
+                    currentAddress.get("id"), currentAddress.get("doorNo"),
+                    currentAddress.get("street"), currentAddress.get("city"),
+                    currentAddress.get("pinCode"), permanentAddress.get("id"),
+                    permanentAddress.get("doorNo"), 
+                    permanentAddress.get("street"),
+                    permanentAddress.get("city"), 
+                    permanentAddress.get("pinCode")));
+
+            query.where(buildFilters(builder, employee, currentAddress, 
+                    criteria).toArray(new Predicate[0]));
+
+            boolean descending = criteria.isDescending() 
+                    != criteria.getSortField().isReversed();
+            Path<?> sortPath = employee.get(
+                    criteria.getSortField().getPropertyName());
+            query.orderBy(
+                    descending ? builder.desc(sortPath) 
+                            : builder.asc(sortPath),
+                    criteria.isDescending() ? builder.desc(employee.get("id"))
+                            : builder.asc(employee.get("id")));
+
+            return session.createQuery(query)
+                    .setFirstResult(criteria.getPageNumber() 
+                            * criteria.getPageSize())
+                    .setMaxResults(criteria.getPageSize())
+                    .list();
+        }
+    }
+
+    /**
+     * Sums up the salaries of each group in the database, so only one row
+     * per group is read back. The median and percentiles are left NaN.
+     *
+     * @param group how the employees are grouped
+     * @return the salary figures of each group in group order
+     */
+    public List<SalaryStats> aggregateSalaries(PayrollGroup group) {
+        String key = group.getKeyExpression();
+        StringBuilder query = new StringBuilder("select ");
+
+        if (null != key) {
+            query.append(key).append(", ");
+        }
+        query.append("""
+                count(e.id), sum(e.salary), avg(e.salary), min(e.salary),
+                max(e.salary)
+                from Employee e
+                """);
+        if (PayrollGroup.CITY == group) {
+            query.append("join e.currentAddress c\n");
+        }
+        if (group.isActiveOnly()) {
+            query.append("where e.activeStatus = true\n");
+        }
+        if (null != key) {
+            query.append("group by ").append(key)
+                    .append(" order by ").append(key);
+        }
+
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+            List<SalaryStats> salaryStats = new ArrayList<>();
+
+            for (Object[] row : session.createQuery(query.toString(), 
+                    Object[].class).list()) {
+
+                int column = null == key ? 0 : 1;
+                long count = (Long) row[column];
+                if (0 == count) {
+                    continue;
+                }
+
+                salaryStats.add(new SalaryStats(
+                        group.label(null == key ? null : row[0]), count,
+                        ((Number) row[column + 1]).doubleValue(),
+                        ((Number) row[column + 2]).doubleValue(),
+                        ((Number) row[column + 3]).doubleValue(),
+                        ((Number) row[column + 4]).doubleValue(),
+                        Double.NaN, Double.NaN, Double.NaN));
+            }
+            return salaryStats;
+        }
+    }
+
+    /**
+     * Checks if an email already exists in the database. The lookup uses
+     * the unique index on email and stops at the first match.
      *
      * @param email the email to check
      * @return true if email exists, false otherwise
      */
     public boolean isEmailExist(String email) {
-    
+        return null != getEmployeeIdByEmail(email);
+    } 
+
+    /**
+     * Finds the employee that uses an email, through the unique index on
+     * email
+     *
+     * @param email the email to look up
+     * @return id of the employee or null if no employee uses the email
+     */
+    public Integer getEmployeeIdByEmail(String email) {
         String query = """
-                select count(e.id) from Employee e where e.email = :email
+                select e.id from Employee e where e.email = :email
                 """;
 
-        try (Session session = HibernateUtil.getSessionFactory()
-                .openSession()) {
-
-            Long employee = (Long) session.createQuery(query)
-                    .setParameter("email", email).uniqueResult();
+        try (Session session = HibernateUtil.openReadOnlySession()) {
 
-            return null != employee && employee > 0;
+            return session.createQuery(query, Integer.class)
+                    .setParameter("email", email)
+                    .setMaxResults(1).uniqueResult();
         }          
-    } 
+    }
 
     /**
-     * Checks if a phoneNumber already exists in the database
+     * Checks if a phoneNumber already exists in the database. The lookup
+     * uses the unique index on phone number and stops at the first match.
      * 
      * @param phoneNumber the employee phone number
      * @return true if phone number exists, false otherwise
      */
     public boolean isPhoneNumberExist(long phoneNumber) {
-    
+        return null != getEmployeeIdByPhoneNumber(phoneNumber);
+    }
+
+    /**
+     * Finds the employee that uses a phone number, through the unique
+     * index on phone number
+     *
+     * @param phoneNumber the phone number to look up
+     * @return id of the employee or null if no employee uses the number
+     */
+    public Integer getEmployeeIdByPhoneNumber(long phoneNumber) {
         String query = """
-                select count(e.id) from Employee e 
+                select e.id from Employee e 
                 where e.phoneNumber = :phoneNumber
                 """;
 
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+
+            return session.createQuery(query, Integer.class)
+                    .setParameter("phoneNumber", phoneNumber)
+                    .setMaxResults(1).uniqueResult();
+        }
+    }
+
+    /**
+     * Counts every employee, active or not
+     *
+     * @return number of employees
+     */
+    public long countEmployees() {
+        String query = "select count(e.id) from Employee e";
+
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+
+            return session.createQuery(query, Long.class).uniqueResult();
+        }
+    }
+
+    /**
+     * Passes the email and phone number of every employee, active or not,
+     * to the consumer without loading the employees
+     *
+     * @param consumer receives each email and phone number
+     */
+    public void forEachContact(BiConsumer<String, Long> consumer) {
+        String query = "select e.email, e.phoneNumber from Employee e";
+
+        try (Session session = HibernateUtil.openReadOnlySession();
+                ScrollableResults results = session.createQuery(query)
+                        .setFetchSize(FETCH_SIZE)
+                        .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            while (results.next()) {
+                consumer.accept((String) results.get(0),
+                        (Long) results.get(1));
+            }
+        }
+    }
+
+    /**
+     * Turns the criteria filters that are set into predicates. Ages are
+     * compared through the date of birth rather than the age formula, so
+     * the date of birth index is used.
+     */
+    private List<Predicate> buildFilters(CriteriaBuilder builder,
+            Root<Employee> employee, Join<Employee, Address> currentAddress,
+            EmployeeSearchCriteria criteria) {
+
+        List<Predicate> filters = new ArrayList<>();
+        filters.add(builder.isTrue(employee.get("activeStatus")));
+
+        if (null != criteria.getNamePrefix() 
+                && !criteria.getNamePrefix().isEmpty()) {
+            filters.add(builder.like(employee.get("name"), 
+                    escapeLike(criteria.getNamePrefix()) + "%", '\\'));
+        }
+        if (null != criteria.getCity()) {
+            filters.add(builder.equal(currentAddress.get("city"), 
+                    criteria.getCity()));
+        }
+        if (null != criteria.getPinCode()) {
+            filters.add(builder.equal(currentAddress.get("pinCode"), 
+                    criteria.getPinCode()));
+        }
+        if (null != criteria.getMinSalary()) {
+            filters.add(builder.greaterThanOrEqualTo(
+                    employee.get("salary"), criteria.getMinSalary()));
+        }
+        if (null != criteria.getMaxSalary()) {
+            filters.add(builder.lessThanOrEqualTo(
+                    employee.get("salary"), criteria.getMaxSalary()));
+        }
+
+        LocalDate today = LocalDate.now();
+        if (null != criteria.getMinAge()) {
+            filters.add(builder.lessThanOrEqualTo(
+                    employee.get("dateOfBirth"), 
+                    today.minusYears(criteria.getMinAge())));
+        }
+        if (null != criteria.getMaxAge()) {
+            filters.add(builder.greaterThan(
+                    employee.get("dateOfBirth"),
+                    today.minusYears(criteria.getMaxAge() + 1)));
+        }
+
+        return filters;
+    }
+
+    /**
+     * Drops the cached copy of an employee. The age is a formula, so the
+     * copy cached on insert or update keeps the age computed for the old
+     * date of birth until the row is read again.
+     */
+    private void evictEmployee(int id) {
+        HibernateUtil.getSessionFactory().getCache()
+                .evictEntityData(Employee.class, id);
+    }
+
+    /**
+     * Saves the employee and its new addresses in one transaction. The
+     * employee is refreshed in the same session, so it carries the age the
+     * database works out and its cached copy is replaced by the row read.
+     */
+    private void insertEmployee(Employee employee) {
         try (Session session = HibernateUtil.getSessionFactory()
                 .openSession()) {
 
-            Long employee = (Long) session.createQuery(query)
-                    .setParameter("phoneNumber", phoneNumber).uniqueResult();
+            Transaction transaction = session.beginTransaction();
+
+            try {
+                attachAddresses(session, employee);
+                session.save(employee);
+                transaction.commit();
+            } catch (RuntimeException exception) {
+                transaction.rollback();
+                throw exception;
+            }
+            session.refresh(employee);
+        }
+    }
+
+    private boolean isNew(Address address) {
+        return null != address && 0 == address.getId();
+    }
+
+    /**
+     * Reads the address another request saved with the same content, when
+     * the insert failed on the unique content hash
+     *
+     * @return the saved address, or null if the insert failed otherwise
+     */
+    private Address getSavedAddress(PersistenceException exception,
+            Address address) {
+
+        String query = "from Address a where a.contentHash = :contentHash";
+
+        if (!(exception.getCause() instanceof ConstraintViolationException)) {
+            return null;
+        }
+
+        try (Session session = HibernateUtil.openReadOnlySession()) {
+            return session.createQuery(query, Address.class)
+                    .setParameter("contentHash", address.getContentHash())
+                    .uniqueResult();
+        }
+    }
+
+    /**
+     * @return the address to save the employee with on the second attempt:
+     *         the saved copy of a new address if there is one, or the new
+     *         address without the id the failed attempt gave it
+     */
+    private Address retryAddress(Address address, boolean newAddress,
+            Address savedAddress) {
+
+        if (null != savedAddress) {
+            return savedAddress;
+        }
+        if (newAddress) {
+            address.setId(0);
+        }
+        return address;
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    /**
+     * Links addresses that are already saved as they are, so that saving
+     * the employee does not cascade an update or insert to them
+     */
+    private void attachAddresses(Session session, Employee employee) {
+        employee.setCurrentAddress(attachAddress(session, 
+                employee.getCurrentAddress()));
+        employee.setPermanentAddress(attachAddress(session, 
+                employee.getPermanentAddress()));
+    }
+
+    /**
+     * @return the saved address from the session or second level cache,
+     *         or the address itself when it is not saved yet
+     */
+    private Address attachAddress(Session session, Address address) {
+        if (null == address || 0 == address.getId() 
+                || session.contains(address)) {
+            return address;
+        }
+
+        Address savedAddress = session.get(Address.class, address.getId());
+        if (null == savedAddress) {
+            address.setId(0);
+            return address;
+        }
+        return savedAddress;
+    }
+
+    private int otherAddressId(Employee employee, boolean permanentAddress) {
+        Address otherAddress = permanentAddress 
+                ? employee.getCurrentAddress() 
+                : employee.getPermanentAddress();
+        return null == otherAddress ? 0 : otherAddress.getId();
+    }
 
-            return null != employee && employee > 0;
+    /**
+     * Loads the addresses of the employee if they are not loaded yet, e.g.
+     * when the employee came from the second level or query cache
+     */
+    private void initializeAddresses(Employee employee) {
+        if (null != employee) {
+            Hibernate.initialize(employee.getCurrentAddress());
+            Hibernate.initialize(employee.getPermanentAddress());
         }
     }
-} 
\ No newline at end of file
+}
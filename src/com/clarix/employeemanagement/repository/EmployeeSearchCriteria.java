@@ -0,0 +1,130 @@
+/*
+ * File : EmployeeSearchCriteria.java
+ * Package : com.clarix.employeemanagement.repository
+ * Description : Holds the filters, order and page of an employee search
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+package com.clarix.employeemanagement.repository;
+
+/**
+ * Filters, order and page of an employee search. Filters left null are
+ * not applied, so an empty criteria pages through all active employees
+ * by id. City and pinCode match the current address, ranges include
+ * both ends.
+ */
+public class EmployeeSearchCriteria {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private String namePrefix;
+    private String city;
+    private Integer pinCode;
+    private Double minSalary;
+    private Double maxSalary;
+    private Integer minAge;
+    private Integer maxAge;
+    private EmployeeSortField sortField = EmployeeSortField.ID;
+    private boolean descending;
+    private int pageNumber;
+    private int pageSize = DEFAULT_PAGE_SIZE;
+
+    public String getNamePrefix() {
+        return namePrefix;
+    }
+
+    public void setNamePrefix(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public Integer getPinCode() {
+        return pinCode;
+    }
+
+    public void setPinCode(Integer pinCode) {
+        this.pinCode = pinCode;
+    }
+
+    public Double getMinSalary() {
+        return minSalary;
+    }
+
+    public void setMinSalary(Double minSalary) {
+        this.minSalary = minSalary;
+    }
+
+    public Double getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(Double maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(Integer minAge) {
+        this.minAge = minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Integer maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public EmployeeSortField getSortField() {
+        return sortField;
+    }
+
+    public void setSortField(EmployeeSortField sortField) {
+        this.sortField = null == sortField ? EmployeeSortField.ID 
+                : sortField;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public void setDescending(boolean descending) {
+        this.descending = descending;
+    }
+
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    /**
+     * @param pageNumber page to return, starting from 0
+     */
+    public void setPageNumber(int pageNumber) {
+        this.pageNumber = Math.max(0, pageNumber);
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @param pageSize employees per page, between 1 and MAX_PAGE_SIZE
+     */
+    public void setPageSize(int pageSize) {
+        this.pageSize = Math.min(MAX_PAGE_SIZE, Math.max(1, pageSize));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * File : EmployeeSortField.java
+ * Package : com.clarix.employeemanagement.repository
+ * Description : Lists the orders an employee search can be sorted in
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+package com.clarix.employeemanagement.repository;
+
+/**
+ * Chooses the order of employee search results. Ties are always broken
+ * by id, so pages do not overlap.
+ */
+public enum EmployeeSortField {
+    ID("id", false),
+    NAME("name", false),
+    SALARY("salary", false),
+
+    /**
+     * Age is derived from the date of birth, so ascending age is
+     * descending date of birth
+     */
+    AGE("dateOfBirth", true);
+
+    private final String propertyName;
+    private final boolean reversed;
+
+    EmployeeSortField(String propertyName, boolean reversed) {
+        this.propertyName = propertyName;
+        this.reversed = reversed;
+    }
+
+    /**
+     * @return the Employee property sorted on
+     */
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * @return true if the property is sorted against the requested order
+     */
+    public boolean isReversed() {
+        return reversed;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * File : PayrollGroup.java
+ * Package : com.clarix.employeemanagement.repository
+ * Description : Lists the ways a payroll summary can be grouped
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+package com.clarix.employeemanagement.repository;
+
+/**
+ * Chooses how the employees of a payroll summary are grouped. Every group
+ * but ACTIVE_STATUS counts active employees only.
+ */
+public enum PayrollGroup {
+    ALL(null, true),
+    CITY("c.city", true),
+
+    /**
+     * Ten year bands of age, e.g. 20-29
+     */
+    AGE_BAND("floor(e.age / 10) * 10", true),
+    ACTIVE_STATUS("e.activeStatus", false);
+
+    public static final int AGE_BAND_YEARS = 10;
+
+    private final String keyExpression;
+    private final boolean activeOnly;
+
+    PayrollGroup(String keyExpression, boolean activeOnly) {
+        this.keyExpression = keyExpression;
+        this.activeOnly = activeOnly;
+    }
+
+    /**
+     * @return the query expression the employees are grouped by, null
+     *         when they form one group
+     */
+    public String getKeyExpression() {
+        return keyExpression;
+    }
+
+    /**
+     * @return true if deleted employees are left out
+     */
+    public boolean isActiveOnly() {
+        return activeOnly;
+    }
+
+    /**
+     * Names a group from the value of its key expression
+     *
+     * @param key city, first age of the band or active status
+     * @return the group name
+     */
+    public String label(Object key) {
+        return switch (this) {
+            case ALL -> "All";
+            case CITY -> String.valueOf(key);
+            case AGE_BAND -> {
+                int band = ((Number) key).intValue();
+                yield band + "-" + (band + AGE_BAND_YEARS - 1);
+            }
+            case ACTIVE_STATUS -> (Boolean) key ? "Active" : "Inactive";
+        };
+    }
+}
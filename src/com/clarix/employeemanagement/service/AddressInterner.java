@@ -0,0 +1,170 @@
+/*
+ * File : AddressInterner.java
+ * Package : com.clarix.employeemanagement.service
+ * Description : Remembers saved addresses by their content
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import com.clarix.employeemanagement.model.Address;
+
+/**
+ * Remembers the most recently used saved addresses by content hash, so
+ * that an address entered again resolves to its existing row without a
+ * database lookup. The least recently used address is dropped once the
+ * capacity is reached.
+ *
+ * The content hash is the SHA-256 of doorNo, street, city and pinCode,
+ * each trimmed, lower cased and with runs of white space collapsed to one
+ * space. configuration/sql/deduplicate-addresses.sql computes the same
+ * hash in MySQL.
+ */
+public class AddressInterner {
+    private static final int DEFAULT_CAPACITY = 10000;
+    private static final char SEPARATOR = '\u001F';
+    private static final char[] HEX_DIGITS = "0123456789abcdef"
+            .toCharArray();
+
+    private final Map<String, Address> addressesByHash;
+    private final Map<Integer, String> hashesById = new HashMap<>();
+
+    public AddressInterner() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity number of addresses to remember
+     */
+    public AddressInterner(int capacity) {
+        addressesByHash = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<String, Address> eldest) {
+
+                boolean full = size() > capacity;
+                if (full) {
+                    hashesById.remove(eldest.getValue().getId());
+                }
+                return full;
+            }
+        };
+    }
+
+    /**
+     * Finds a remembered address
+     *
+     * @param contentHash content hash of the address
+     * @return a copy of the saved address or null if not remembered
+     */
+    public synchronized Address find(String contentHash) {
+        Address address = addressesByHash.get(contentHash);
+        return null == address ? null : copy(address);
+    }
+
+    /**
+     * Remembers a saved address under its content hash
+     *
+     * @param address the saved address
+     */
+    public synchronized void register(Address address) {
+        if (0 == address.getId() || null == address.getContentHash()) {
+            return;
+        }
+
+        forget(address.getId());
+        addressesByHash.put(address.getContentHash(), copy(address));
+        hashesById.put(address.getId(), address.getContentHash());
+    }
+
+    /**
+     * Forgets an address whose content is about to change
+     *
+     * @param addressId address identification number
+     */
+    public synchronized void forget(int addressId) {
+        String contentHash = hashesById.remove(addressId);
+        if (null != contentHash) {
+            addressesByHash.remove(contentHash);
+        }
+    }
+
+    /**
+     * Computes the content hash of an address
+     *
+     * @param doorNo address doorNo
+     * @param street address street
+     * @param city address city
+     * @param pinCode address pinCode
+     * @return the hash as 64 lower case hex digits
+     */
+    public static String contentHash(String doorNo, String street, 
+            String city, int pinCode) {
+
+        String content = new StringBuilder()
+                .append(normalize(doorNo)).append(SEPARATOR)
+                .append(normalize(street)).append(SEPARATOR)
+                .append(normalize(city)).append(SEPARATOR)
+                .append(pinCode)
+                .toString();
+
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256")
+                    .digest(content.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException missingAlgorithm) {
+            throw new IllegalStateException(missingAlgorithm);
+        }
+
+        char[] hex = new char[digest.length * 2];
+        for (int index = 0; index < digest.length; index++) {
+            hex[index * 2] = HEX_DIGITS[(digest[index] >> 4) & 0xF];
+            hex[index * 2 + 1] = HEX_DIGITS[digest[index] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    private static String normalize(String value) {
+        if (null == value) {
+            return "";
+        }
+
+        StringBuilder normalized = new StringBuilder(value.length());
+        boolean pendingSpace = false;
+
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+
+            if (Character.isWhitespace(character)) {
+                pendingSpace = normalized.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    normalized.append(' ');
+                    pendingSpace = false;
+                }
+                normalized.append(character);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static Address copy(Address address) {
+        Address copy = new Address(address.getPinCode(), address.getCity(),
+                address.getDoorNo(), address.getStreet());
+        copy.setId(address.getId());
+        copy.setContentHash(address.getContentHash());
+        return copy;
+    }
+}
@@ -12,8 +12,13 @@
 package com.clarix.employeemanagement.service;
 
 import com.clarix.employeemanagement.model.Address;
+import com.clarix.employeemanagement.model.UpdateResult;
 import com.clarix.employeemanagement.repository.AddressRepository;
 
+import java.util.function.Consumer;
+import javax.persistence.PersistenceException;
+import org.hibernate.exception.ConstraintViolationException;
+
 /**
  * Manages address information and related validations
  *
@@ -21,7 +26,10 @@ import com.clarix.employeemanagement.repository.AddressRepository;
  * @see com.clarix.employeemanagement.repository
  */
 public class AddressService {
+    private static final AddressInterner ADDRESS_INTERNER = 
+            new AddressInterner();
     private AddressRepository addressRepository;
+    private ValidationRules validationRules;
 
     public AddressRepository getAddressRepository() {
         if (null == addressRepository) {
@@ -30,8 +38,16 @@ public class AddressService {
         return addressRepository;
     }
 
+    public ValidationRules getValidationRules() {
+        if (null == validationRules) {
+            validationRules = new ValidationRules();
+        }
+        return validationRules;
+    }
+
     /**
-     * Add a new address detail
+     * Add a new address detail. An identical address that is already
+     * saved is returned instead of adding another row.
      *
      * @param doorNo employee doorNo
      * @param street employee street
@@ -42,65 +58,193 @@ public class AddressService {
     public Address addAddress(String doorNo, String street, String city, 
             int pinCode) {
 
+        return resolveAddress(doorNo, street, city, pinCode);
+    }
+
+    /**
+     * Finds the saved address with the same normalized content, or saves
+     * a new one. When another request saves the same address first, the
+     * unique content hash rejects this insert and its row is used instead.
+     *
+     * @param doorNo employee doorNo
+     * @param street employee street
+     * @param city employee city
+     * @param pinCode employee pincode
+     * @return the saved address
+     */
+    public Address resolveAddress(String doorNo, String street, String city,
+            int pinCode) {
+
+        Address address = findAddress(doorNo, street, city, pinCode);
+
+        if (0 != address.getId()) {
+            return address;
+        }
+
+        try {
+            getAddressRepository().saveAddress(address);
+        } catch (PersistenceException exception) {
+            if (!(exception.getCause() 
+                    instanceof ConstraintViolationException)) {
+                throw exception;
+            }
+
+            address = getAddressRepository()
+                    .getAddressByContentHash(address.getContentHash());
+            if (null == address) {
+                throw exception;
+            }
+        }
+        registerAddress(address);
+        return address;
+    }
+
+    /**
+     * Finds the saved address with the same normalized content, first in
+     * the recently used addresses and then through the content hash index.
+     * When there is none, a new address is created that is not yet saved.
+     *
+     * @param doorNo employee doorNo
+     * @param street employee street
+     * @param city employee city
+     * @param pinCode employee pincode
+     * @return the existing address or a new unsaved one
+     */
+    public Address findAddress(String doorNo, String street, String city,
+            int pinCode) {
+
+        String contentHash = AddressInterner.contentHash(doorNo, street, 
+                city, pinCode);
+        Address address = ADDRESS_INTERNER.find(contentHash);
+
+        if (null == address) {
+            address = getAddressRepository()
+                    .getAddressByContentHash(contentHash);
+
+            if (null == address) {
+                address = createAddress(doorNo, street, city, pinCode);
+            } else {
+                registerAddress(address);
+            }
+        }
+        return address;
+    }
+
+    /**
+     * Creates an address that is not yet saved, so it can be stored along
+     * with its employee
+     *
+     * @param doorNo employee doorNo
+     * @param street employee street
+     * @param city employee city
+     * @param pinCode employee pincode
+     * @return the new address
+     */
+    public Address createAddress(String doorNo, String street, String city,
+            int pinCode) {
+
         Address address = new Address();
         address.setDoorNo(doorNo);
         address.setStreet(street);
         address.setCity(city);
         address.setPinCode(pinCode);
+        address.setContentHash(AddressInterner.contentHash(doorNo, street,
+                city, pinCode));
+
+        return address;
+    }
 
-        Address savedAddress = getAddressRepository().saveAddress(address);
-        return savedAddress;        
+    /**
+     * Remembers a saved address, so that the same address entered again
+     * resolves to it
+     *
+     * @param address the saved address
+     */
+    public void registerAddress(Address address) {
+        if (null != address) {
+            ADDRESS_INTERNER.register(address);
+        }
     }
 
     /**
-     * Updates the address of the employee
+     * Forgets a saved address whose content has changed
+     *
+     * @param addressId address identification number
+     */
+    public void forgetAddress(int addressId) {
+        ADDRESS_INTERNER.forget(addressId);
+    }
+
+    /**
+     * Updates the address in place, for every employee that shares it.
+     * With write-behind on, the update is queued, and the address is
+     * remembered again once its flush has written it.
      * 
      * @param addressId identification number of the address
      * @param doorNo employee doorNo
      * @param street employee street
      * @param city employee city 
      * @param pinCode employee pincode
-     * @return true if address exist and false otherwise
+     * @return UPDATED, NOT_FOUND if the address does not exist,
+     *         CONFLICT if it was changed since it was read or another
+     *         saved address already has the new content, or QUEUED when
+     *         write-behind is on
      */
-    public boolean updateAddress(int addressId, String doorNo, String street,
-            String city, int pinCode) {
+    public UpdateResult updateAddress(int addressId, String doorNo, 
+            String street, String city, int pinCode) {
 
         Address address = getAddressRepository().getAddressById(addressId);
-        boolean updatedEmployee = (null != address);
      
-        if (updatedEmployee) {
-            address.setDoorNo(doorNo);
-            address.setStreet(street);
-            address.setCity(city);
-            address.setPinCode(pinCode);
+        if (null == address) {
+            return UpdateResult.NOT_FOUND;
+        }
 
-            getAddressRepository().updateAddress(address);
+        Address identicalAddress = findAddress(doorNo, street, city, 
+                pinCode);
+        if (0 != identicalAddress.getId() 
+                && addressId != identicalAddress.getId()) {
+            return UpdateResult.CONFLICT;
         }
 
-        return updatedEmployee;
+        Consumer<Address> patch = changedAddress -> {
+            changedAddress.setDoorNo(doorNo);
+            changedAddress.setStreet(street);
+            changedAddress.setCity(city);
+            changedAddress.setPinCode(pinCode);
+            changedAddress.setContentHash(AddressInterner.contentHash(
+                    doorNo, street, city, pinCode));
+        };
+        patch.accept(address);
+        forgetAddress(addressId);
+
+        UpdateResult result = UpdateResult.QUEUED;
+        WriteBehindQueue writeBehindQueue = 
+                EmployeeService.getWriteBehindQueue();
+        if (null == writeBehindQueue) {
+            result = getAddressRepository().updateAddress(address);
+        } else {
+            writeBehindQueue.patchAddress(addressId, patch);
+        }
+
+        if (result.isUpdated()) {
+            registerAddress(address);
+        }
+        return result;
     }
 
     public String validateDoorNo(String doorNo) {
-        return doorNo.matches("^[A-Za-z0-9]+([ /-][A-Za-z0-9]+)*$")
-                ? null
-                : "Invalid door no";
+        return getValidationRules().validateDoorNo(doorNo);
     }
 
     public String validateStreet(String street) {
-        return street.matches("^[A-Za-z0-9 .-]{1,50}$")
-                ? null
-                : "Invalid street name (Max 50 characters, only . - allowed)";
+        return getValidationRules().validateStreet(street);
     }
 
     public String validateCity(String city) {
-        return city.matches("^[A-Za-z ]{1,50}$")
-                ? null
-                : "Invalid city name (Max 50 characters allowed)";
+        return getValidationRules().validateCity(city);
     }
 
     public String validatePinCode(String pinCode) {
-        return pinCode.matches("^[0-9]{1,6}$")
-                ? null
-                : "Invalid pincode (Max 6 digits allowed)";
+        return getValidationRules().validatePinCode(pinCode);
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+/*
+ * File : ContactFilter.java
+ * Package : com.clarix.employeemanagement.service
+ * Description : Remembers the emails and phone numbers already taken
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.service;
+
+import java.util.Locale;
+import com.clarix.employeemanagement.repository.EmployeeRepository;
+import com.clarix.employeemanagement.util.BloomFilter;
+
+/**
+ * Keeps bloom filters of the emails and phone numbers in use, so the
+ * uniqueness checks only query the database when a value might be taken.
+ * Until it is warmed up every value is reported as possibly taken.
+ *
+ * @see com.clarix.employeemanagement.util.BloomFilter
+ */
+public class ContactFilter {
+    private static final long MINIMUM_CAPACITY = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private volatile BloomFilter emailFilter;
+    private volatile BloomFilter phoneNumberFilter;
+    private volatile boolean warmedUp;
+
+    /**
+     * Loads the emails and phone numbers of every employee. Values added
+     * while loading are kept, so the filter never misses a taken value.
+     *
+     * @param employeeRepository source of the existing contacts
+     */
+    public synchronized void warmUp(EmployeeRepository employeeRepository) {
+        long capacity = Math.max(MINIMUM_CAPACITY,
+                2 * employeeRepository.countEmployees());
+
+        warmedUp = false;
+        emailFilter = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        phoneNumberFilter = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+
+        employeeRepository.forEachContact((email, phoneNumber) -> {
+            addEmail(email);
+            addPhoneNumber(phoneNumber);
+        });
+        warmedUp = true;
+    }
+
+    public boolean mightContainEmail(String email) {
+        return !warmedUp || emailFilter.mightContain(normalize(email));
+    }
+
+    public boolean mightContainPhoneNumber(long phoneNumber) {
+        return !warmedUp || phoneNumberFilter.mightContain(phoneNumber);
+    }
+
+    public void addEmail(String email) {
+        BloomFilter filter = emailFilter;
+        if (null != filter && null != email) {
+            filter.add(normalize(email));
+        }
+    }
+
+    public void addPhoneNumber(long phoneNumber) {
+        BloomFilter filter = phoneNumberFilter;
+        if (null != filter) {
+            filter.add(phoneNumber);
+        }
+    }
+
+    /**
+     * Emails are compared without case, like the database collation does
+     */
+    private String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
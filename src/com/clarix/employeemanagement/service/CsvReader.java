@@ -0,0 +1,99 @@
+/*
+ * File : CsvReader.java
+ * Package : com.clarix.employeemanagement.service
+ * Description : Splits csv text into records and fields
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads csv records as described in RFC 4180. Fields are separated by
+ * commas, and a field in double quotes may contain commas, line breaks and
+ * quotes written twice. A record that spans several lines keeps the
+ * number of the line it starts on.
+ */
+class CsvReader {
+    private final BufferedReader reader;
+    private int linesRead;
+    private int lineNumber;
+
+    CsvReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next record
+     *
+     * @return the fields of the record, or null at the end of the text
+     * @throws IOException if the text cannot be read
+     */
+    String[] readRecord() throws IOException {
+        String line = reader.readLine();
+
+        if (null == line) {
+            return null;
+        }
+        lineNumber = ++linesRead;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int index = 0;
+
+        while (index < line.length() || quoted) {
+            if (index == line.length()) {
+                String nextLine = reader.readLine();
+
+                if (null == nextLine) {
+                    break;
+                }
+                linesRead++;
+                field.append('\n');
+                line = nextLine;
+                index = 0;
+                continue;
+            }
+
+            char character = line.charAt(index++);
+            if (quoted) {
+                if ('"' != character) {
+                    field.append(character);
+                } else if (index < line.length()
+                        && '"' == line.charAt(index)) {
+                    field.append('"');
+                    index++;
+                } else {
+                    quoted = false;
+                }
+            } else if ('"' == character) {
+                quoted = true;
+            } else if (',' == character) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(character);
+            }
+        }
+
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * @return the line number the last record read starts on
+     */
+    int getLineNumber() {
+        return lineNumber;
+    }
+}
@@ -0,0 +1,549 @@
+/*
+ * File : EmployeeColumnStore.java
+ * Package : com.clarix.employeemanagement.service
+ * Description : Holds every employee in memory column by column
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import com.clarix.employeemanagement.model.EmployeeSummary;
+import com.clarix.employeemanagement.repository.EmployeeRepository;
+
+/**
+ * Keeps every employee, active or deleted, in memory as one primitive
+ * array per column: id, date of birth, phone number, salary, active
+ * status and current address. Names and cities are stored once in a
+ * dictionary and the rows hold their codes. The columns of a million
+ * employees take about 50 MB, plus the names.
+ *
+ * Rows are read by scanning: the filter and the action receive the row
+ * number and read the columns through the accessors, so a scan creates
+ * no object per row. Accessors are only valid inside a scan.
+ *
+ * The write paths only record which employees or addresses changed.
+ * Before the next scan those employees are read again from the database
+ * in batches and their rows replaced, added or removed. Changes are
+ * recorded from the start of the warm up, so none are missed while the
+ * store loads.
+ */
+public class EmployeeColumnStore {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int REFRESH_BATCH_SIZE = 500;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Integer> changedIds = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> changedAddressIds =
+            ConcurrentHashMap.newKeySet();
+    private volatile boolean tracking;
+    private volatile boolean loading;
+    private volatile boolean warmedUp;
+    private volatile int today;
+    private EmployeeRepository employeeRepository;
+    private Columns columns = new Columns();
+
+    /**
+     * Loads every employee from the database, replacing what was loaded
+     * before. The new columns get new dictionaries, so names and cities
+     * no longer used are dropped.
+     *
+     * @param employeeRepository source of the employees
+     */
+    public synchronized void warmUp(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+        tracking = true;
+        loading = true;
+
+        try {
+            Columns newColumns = new Columns();
+            employeeRepository.forEachEmployeeSummaryWithDeleted(
+                    newColumns::add);
+
+            lock.writeLock().lock();
+            try {
+                columns = newColumns;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            warmedUp = true;
+        } finally {
+            loading = false;
+        }
+    }
+
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    /**
+     * Records that an employee was added, changed, deleted or archived
+     *
+     * @param id employee identification number
+     */
+    public void markChanged(int id) {
+        if (tracking) {
+            changedIds.add(id);
+        }
+    }
+
+    /**
+     * Records that an address was changed in place, for every employee
+     * living there
+     *
+     * @param addressId address identification number
+     */
+    public void markAddressChanged(int addressId) {
+        if (tracking) {
+            changedAddressIds.add(addressId);
+        }
+    }
+
+    /**
+     * Passes the number of every row accepted by the filter to the action
+     *
+     * @param filter tests a row number, e.g. from the filter methods
+     * @param action receives the number of each accepted row
+     */
+    public void scan(IntPredicate filter, IntConsumer action) {
+        applyChanges();
+
+        lock.readLock().lock();
+        try {
+            int size = columns.size;
+            for (int row = 0; row < size; row++) {
+                if (filter.test(row)) {
+                    action.accept(row);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param filter tests a row number
+     * @return number of rows accepted by the filter
+     */
+    public int count(IntPredicate filter) {
+        int[] count = new int[1];
+        scan(filter, row -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * @param filter tests a row number
+     * @return sum of the salaries of the rows accepted by the filter
+     */
+    public double sumSalaries(IntPredicate filter) {
+        double[] total = new double[1];
+        scan(filter, row -> total[0] += columns.salaries[row]);
+        return total[0];
+    }
+
+    /**
+     * @param filter tests a row number
+     * @return ids of the rows accepted by the filter, in row order
+     */
+    public int[] selectIds(IntPredicate filter) {
+        int[][] ids = {new int[INITIAL_CAPACITY]};
+        int[] size = new int[1];
+
+        scan(filter, row -> {
+            if (size[0] == ids[0].length) {
+                ids[0] = Arrays.copyOf(ids[0], 2 * size[0]);
+            }
+            ids[0][size[0]++] = columns.ids[row];
+        });
+        return Arrays.copyOf(ids[0], size[0]);
+    }
+
+    /**
+     * @return a filter accepting every row
+     */
+    public IntPredicate all() {
+        return row -> true;
+    }
+
+    /**
+     * @return a filter accepting the employees that are not deleted
+     */
+    public IntPredicate active() {
+        return row -> columns.active[row];
+    }
+
+    /**
+     * @param city city of the current address
+     * @return a filter accepting the employees living in the city
+     */
+    public IntPredicate livingIn(String city) {
+        return new IntPredicate() {
+            private Columns codedColumns;
+            private int cityCode;
+
+            @Override
+            public boolean test(int row) {
+                if (codedColumns != columns) {
+                    codedColumns = columns;
+                    cityCode = columns.cities.find(city);
+                }
+                return cityCode == columns.cityCodes[row];
+            }
+        };
+    }
+
+    /**
+     * @param minimum lowest salary accepted
+     * @param maximum highest salary accepted
+     * @return a filter accepting the employees earning within the range
+     */
+    public IntPredicate earning(double minimum, double maximum) {
+        return row -> columns.salaries[row] >= minimum
+                && columns.salaries[row] <= maximum;
+    }
+
+    /**
+     * @param minimum lowest age accepted
+     * @param maximum highest age accepted
+     * @return a filter accepting the employees aged within the range
+     */
+    public IntPredicate aged(int minimum, int maximum) {
+        int date = toDateNumber(LocalDate.now());
+        int latestBirthDate = date - 10000 * minimum;
+        int earliestBirthDate = date - 10000 * (maximum + 1);
+        return row -> columns.birthDates[row] <= latestBirthDate
+                && columns.birthDates[row] > earliestBirthDate;
+    }
+
+    public int id(int row) {
+        return columns.ids[row];
+    }
+
+    public String name(int row) {
+        return columns.names.value(columns.nameCodes[row]);
+    }
+
+    /**
+     * @return full years from the date of birth of the row to the date of
+     *         the scan
+     */
+    public int age(int row) {
+        return (today - columns.birthDates[row]) / 10000;
+    }
+
+    public long phoneNumber(int row) {
+        return columns.phoneNumbers[row];
+    }
+
+    public double salary(int row) {
+        return columns.salaries[row];
+    }
+
+    public boolean isActive(int row) {
+        return columns.active[row];
+    }
+
+    public int cityCode(int row) {
+        return columns.cityCodes[row];
+    }
+
+    /**
+     * @param cityCode code of a city read from a row, codes stay valid
+     *        until the store is warmed up again
+     * @return name of the city
+     */
+    public String city(int cityCode) {
+        return columns.cities.value(cityCode);
+    }
+
+    /**
+     * Reads the changed employees again and updates their rows. Employees
+     * that no longer exist, e.g. archived ones, are removed. During a warm
+     * up the changes wait for the new columns. When a read fails, the ids
+     * not yet applied are recorded again, so the next scan retries them.
+     */
+    private void applyChanges() {
+        today = toDateNumber(LocalDate.now());
+
+        if (loading || changedIds.isEmpty() && changedAddressIds.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!changedAddressIds.isEmpty()) {
+                int[] addressIds = drain(changedAddressIds).stream()
+                        .mapToInt(Integer::intValue).sorted().toArray();
+                for (int row = 0; row < columns.size; row++) {
+                    if (0 <= Arrays.binarySearch(addressIds, 
+                            columns.currentAddressIds[row])) {
+                        changedIds.add(columns.ids[row]);
+                    }
+                }
+            }
+
+            List<Integer> ids = drain(changedIds);
+            for (int start = 0; start < ids.size();
+                    start += REFRESH_BATCH_SIZE) {
+
+                List<Integer> batch = ids.subList(start,
+                        Math.min(ids.size(), start + REFRESH_BATCH_SIZE));
+                List<EmployeeSummary> employees;
+                try {
+                    employees = employeeRepository.getEmployeeSummaries(
+                            batch);
+                } catch (RuntimeException exception) {
+                    changedIds.addAll(ids.subList(start, ids.size()));
+                    throw exception;
+                }
+                Set<Integer> missingIds = new HashSet<>(batch);
+
+                for (EmployeeSummary employee : employees) {
+                    missingIds.remove(employee.id());
+                    columns.put(employee);
+                }
+                for (int id : missingIds) {
+                    columns.remove(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Integer> drain(Set<Integer> changes) {
+        List<Integer> drained = new ArrayList<>(changes);
+        changes.removeAll(drained);
+        return drained;
+    }
+
+    /**
+     * @return the date as the number yyyyMMdd, so that whole years between
+     *         two dates are their difference divided by 10000
+     */
+    private static int toDateNumber(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100
+                + date.getDayOfMonth();
+    }
+
+    /**
+     * The arrays and dictionaries of one load of the store, rows 0 to
+     * size - 1 are in use
+     */
+    private static class Columns {
+        private final Dictionary names = new Dictionary();
+        private final Dictionary cities = new Dictionary();
+        private int size;
+        private int[] ids = new int[INITIAL_CAPACITY];
+        private int[] nameCodes = new int[INITIAL_CAPACITY];
+        private int[] birthDates = new int[INITIAL_CAPACITY];
+        private long[] phoneNumbers = new long[INITIAL_CAPACITY];
+        private double[] salaries = new double[INITIAL_CAPACITY];
+        private boolean[] active = new boolean[INITIAL_CAPACITY];
+        private int[] cityCodes = new int[INITIAL_CAPACITY];
+        private int[] currentAddressIds = new int[INITIAL_CAPACITY];
+        private final RowIndex rowsById = new RowIndex();
+
+        private void add(EmployeeSummary employee) {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                nameCodes = Arrays.copyOf(nameCodes, capacity);
+                birthDates = Arrays.copyOf(birthDates, capacity);
+                phoneNumbers = Arrays.copyOf(phoneNumbers, capacity);
+                salaries = Arrays.copyOf(salaries, capacity);
+                active = Arrays.copyOf(active, capacity);
+                cityCodes = Arrays.copyOf(cityCodes, capacity);
+                currentAddressIds = Arrays.copyOf(currentAddressIds,
+                        capacity);
+            }
+            rowsById.put(employee.id(), size);
+            set(size++, employee);
+        }
+
+        private void put(EmployeeSummary employee) {
+            int row = rowsById.get(employee.id());
+
+            if (RowIndex.ABSENT == row) {
+                add(employee);
+            } else {
+                set(row, employee);
+            }
+        }
+
+        private void set(int row, EmployeeSummary employee) {
+            ids[row] = employee.id();
+            nameCodes[row] = names.code(employee.name());
+            birthDates[row] = toDateNumber(employee.dateOfBirth());
+            phoneNumbers[row] = employee.phoneNumber();
+            salaries[row] = employee.salary();
+            active[row] = employee.active();
+            cityCodes[row] = cities.code(employee.currentCity());
+            currentAddressIds[row] = employee.currentAddressId();
+        }
+
+        /**
+         * Moves the last row into the place of the removed one, so the
+         * rows stay packed
+         */
+        private void remove(int id) {
+            int row = rowsById.remove(id);
+            if (RowIndex.ABSENT == row) {
+                return;
+            }
+
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                nameCodes[row] = nameCodes[last];
+                birthDates[row] = birthDates[last];
+                phoneNumbers[row] = phoneNumbers[last];
+                salaries[row] = salaries[last];
+                active[row] = active[last];
+                cityCodes[row] = cityCodes[last];
+                currentAddressIds[row] = currentAddressIds[last];
+                rowsById.put(ids[row], row);
+            }
+        }
+    }
+
+    /**
+     * Maps employee ids to row numbers in two int arrays with linear
+     * probing, so the index holds no object per employee. Ids are
+     * positive, 0 marks a free slot.
+     */
+    private static class RowIndex {
+        private static final int ABSENT = -1;
+
+        private int size;
+        private int[] keys = new int[2 * INITIAL_CAPACITY];
+        private int[] rows = new int[2 * INITIAL_CAPACITY];
+
+        private int get(int id) {
+            for (int slot = slot(id); 0 != keys[slot]; 
+                    slot = next(slot)) {
+
+                if (id == keys[slot]) {
+                    return rows[slot];
+                }
+            }
+            return ABSENT;
+        }
+
+        private void put(int id, int row) {
+            if (2 * (size + 1) > keys.length) {
+                resize();
+            }
+
+            int slot = slot(id);
+            while (0 != keys[slot] && id != keys[slot]) {
+                slot = next(slot);
+            }
+            if (0 == keys[slot]) {
+                keys[slot] = id;
+                size++;
+            }
+            rows[slot] = row;
+        }
+
+        /**
+         * Removes the id and moves the entries after it back into the
+         * gap, so lookups never stop at a false free slot
+         *
+         * @return the row of the id or ABSENT
+         */
+        private int remove(int id) {
+            int slot = slot(id);
+            while (0 != keys[slot] && id != keys[slot]) {
+                slot = next(slot);
+            }
+            if (0 == keys[slot]) {
+                return ABSENT;
+            }
+
+            int row = rows[slot];
+            int gap = slot;
+            keys[gap] = 0;
+            size--;
+
+            for (slot = next(gap); 0 != keys[slot]; slot = next(slot)) {
+                int home = slot(keys[slot]);
+                boolean movable = gap <= slot 
+                        ? home <= gap || home > slot
+                        : home <= gap && home > slot;
+                if (movable) {
+                    keys[gap] = keys[slot];
+                    rows[gap] = rows[slot];
+                    keys[slot] = 0;
+                    gap = slot;
+                }
+            }
+            return row;
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            int[] oldRows = rows;
+            keys = new int[2 * oldKeys.length];
+            rows = new int[2 * oldKeys.length];
+            size = 0;
+
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (0 != oldKeys[slot]) {
+                    put(oldKeys[slot], oldRows[slot]);
+                }
+            }
+        }
+
+        private int slot(int id) {
+            return (id * 0x9E3779B9 >>> 1) & (keys.length - 1);
+        }
+
+        private int next(int slot) {
+            return (slot + 1) & (keys.length - 1);
+        }
+    }
+
+    /**
+     * Gives every different text a code, codes are never reused
+     */
+    private static class Dictionary {
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        private synchronized int code(String value) {
+            return codes.computeIfAbsent(value, newValue -> {
+                values.add(newValue);
+                return values.size() - 1;
+            });
+        }
+
+        /**
+         * @return the code of the value or -1 if it was never stored
+         */
+        private synchronized int find(String value) {
+            return codes.getOrDefault(value, -1);
+        }
+
+        private synchronized String value(int code) {
+            return values.get(code);
+        }
+    }
+}
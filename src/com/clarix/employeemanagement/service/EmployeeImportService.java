@@ -0,0 +1,322 @@
+/*
+ * File : EmployeeImportService.java
+ * Package : com.clarix.employeemanagement.service
+ * Description : Imports employees in bulk from a csv file
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.PersistenceException;
+import com.clarix.employeemanagement.model.Address;
+import com.clarix.employeemanagement.model.Employee;
+import com.clarix.employeemanagement.model.ImportReport;
+
+/**
+ * Imports employees with their addresses from a csv file. Every row is
+ * validated with the employee and address rules, valid rows are saved in
+ * JDBC batches and invalid rows are listed in the report. When a
+ * transaction of batches fails, its rows are saved again one at a time,
+ * so only the rows at fault are rejected, each with its own reason.
+ *
+ * The file must start with a header line followed by rows of
+ * name,dateOfBirth(dd/MM/yyyy),phoneNumber,salary,email,
+ * currentDoorNo,currentStreet,currentCity,currentPinCode,
+ * permanentDoorNo,permanentStreet,permanentCity,permanentPinCode
+ * A field that contains a comma, a line break or a quote is written in
+ * double quotes, with each quote in it doubled.
+ *
+ * @see com.clarix.employeemanagement.service.EmployeeService
+ * @see com.clarix.employeemanagement.service.AddressService
+ */
+public class EmployeeImportService {
+    private static final int DEFAULT_BATCH_SIZE = 50;
+    private static final int BATCHES_PER_TRANSACTION = 20;
+    private static final int COLUMN_COUNT = 13;
+    private static final DateTimeFormatter DATE_FORMAT = 
+            DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private EmployeeService employeeService;
+    private AddressService addressService;
+
+    public EmployeeService getEmployeeService() {
+        if (null == employeeService) {
+            employeeService = new EmployeeService();
+        }
+        return employeeService;
+    }
+
+    public AddressService getAddressService() {
+        if (null == addressService) {
+            addressService = new AddressService();
+        }
+        return addressService;
+    }
+
+    /**
+     * Imports employees using the default batch size
+     *
+     * @param filePath path of the csv file
+     * @return report of imported and rejected rows
+     * @throws IOException if the file cannot be read
+     */
+    public ImportReport importEmployees(String filePath) throws IOException {
+        return importEmployees(filePath, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Imports employees from a csv file
+     *
+     * @param filePath path of the csv file
+     * @param batchSize number of employees per JDBC batch
+     * @return report of imported and rejected rows
+     * @throws IOException if the file cannot be read
+     */
+    public ImportReport importEmployees(String filePath, int batchSize)
+            throws IOException {
+
+        long startTime = System.currentTimeMillis();
+        int transactionSize = batchSize * BATCHES_PER_TRANSACTION;
+        ImportReport report = new ImportReport();
+        Set<String> emails = new HashSet<>();
+        Set<Long> phoneNumbers = new HashSet<>();
+        List<Employee> employees = new ArrayList<>(transactionSize);
+        List<Integer> lineNumbers = new ArrayList<>(transactionSize);
+        Map<String, Address> pendingAddresses = new HashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(
+                Paths.get(filePath))) {
+
+            CsvReader csvReader = new CsvReader(reader);
+            csvReader.readRecord();
+            String[] columns;
+
+            while (null != (columns = csvReader.readRecord())) {
+                if (1 == columns.length && columns[0].isBlank()) {
+                    continue;
+                }
+
+                report.setTotalRows(report.getTotalRows() + 1);
+                int lineNumber = csvReader.getLineNumber();
+                String rejection = validateRow(columns, emails, phoneNumbers);
+
+                if (null != rejection) {
+                    report.addRejectedRow(lineNumber, rejection);
+                    continue;
+                }
+
+                employees.add(toEmployee(columns, pendingAddresses));
+                lineNumbers.add(lineNumber);
+
+                if (employees.size() == transactionSize) {
+                    saveEmployees(employees, lineNumbers, pendingAddresses,
+                            batchSize, report);
+                }
+            }
+        }
+
+        saveEmployees(employees, lineNumbers, pendingAddresses, batchSize,
+                report);
+        report.setElapsedMillis(System.currentTimeMillis() - startTime);
+        return report;
+    }
+
+    /**
+     * Saves the pending employees in one transaction and records the
+     * result, the pending lists and addresses are emptied afterwards
+     */
+    private void saveEmployees(List<Employee> employees,
+            List<Integer> lineNumbers, Map<String, Address> pendingAddresses,
+            int batchSize, ImportReport report) {
+
+        if (employees.isEmpty()) {
+            return;
+        }
+
+        try {
+            getEmployeeService().getEmployeeRepository()
+                    .addEmployees(employees, batchSize);
+            registerEmployees(employees, report);
+        } catch (PersistenceException exception) {
+            saveOneByOne(employees, lineNumbers, pendingAddresses.values(),
+                    report);
+        }
+
+        employees.clear();
+        lineNumbers.clear();
+        pendingAddresses.clear();
+    }
+
+    /**
+     * Saves the employees of a failed transaction one at a time, so that a
+     * row at fault, such as an email already saved, is rejected on its own.
+     * The ids handed out by the failed transaction are cleared first.
+     */
+    private void saveOneByOne(List<Employee> employees,
+            List<Integer> lineNumbers, Collection<Address> newAddresses,
+            ImportReport report) {
+
+        newAddresses.forEach(address -> address.setId(0));
+
+        for (int index = 0; index < employees.size(); index++) {
+            Employee employee = employees.get(index);
+            employee.setId(0);
+
+            try {
+                getEmployeeService().getEmployeeRepository()
+                        .addEmployee(employee);
+                registerEmployees(List.of(employee), report);
+            } catch (PersistenceException exception) {
+                report.addRejectedRow(lineNumbers.get(index),
+                        "Not saved: " + getReason(exception));
+            }
+        }
+    }
+
+    private void registerEmployees(List<Employee> employees,
+            ImportReport report) {
+
+        employees.forEach(getEmployeeService()::registerContacts);
+        employees.forEach(getEmployeeService()::registerAddresses);
+        employees.forEach(getEmployeeService()::indexEmployee);
+        employees.forEach(employee -> getEmployeeService()
+                .markChanged(employee.getId()));
+        report.setImportedRows(report.getImportedRows() + employees.size());
+    }
+
+    /**
+     * @return the first line of the database error behind the exception,
+     *         which names the violated key
+     */
+    private String getReason(PersistenceException exception) {
+        Throwable cause = exception;
+
+        while (null != cause.getCause()) {
+            cause = cause.getCause();
+        }
+        return null == cause.getMessage() ? cause.toString()
+                : cause.getMessage().lines().findFirst().orElse("");
+    }
+
+    /**
+     * Validates one row with the employee and address rules
+     *
+     * @return all validation messages joined or null if the row is valid
+     */
+    private String validateRow(String[] columns, Set<String> emails,
+            Set<Long> phoneNumbers) {
+
+        if (COLUMN_COUNT != columns.length) {
+            return "Expected " + COLUMN_COUNT + " columns but found "
+                    + columns.length;
+        }
+
+        for (int index = 0; index < columns.length; index++) {
+            columns[index] = columns[index].trim();
+        }
+
+        List<String> messages = new ArrayList<>();
+        EmployeeService employeeService = getEmployeeService();
+        AddressService addressService = getAddressService();
+
+        addMessage(messages, employeeService.validateName(columns[0]));
+
+        try {
+            LocalDate dateOfBirth = LocalDate.parse(columns[1], DATE_FORMAT);
+            addMessage(messages, 
+                    employeeService.validateDateOfBirth(dateOfBirth));
+        } catch (DateTimeParseException invalidDateException) {
+            messages.add("Invalid date format. Use dd/MM/yyyy");
+        }
+
+        String phoneMessage = employeeService.validatePhoneNumber(columns[2]);
+        if (null == phoneMessage 
+                && !phoneNumbers.add(Long.parseLong(columns[2]))) {
+            phoneMessage = "Phone number repeated in file";
+        }
+        addMessage(messages, phoneMessage);
+
+        addMessage(messages, employeeService.validateSalary(columns[3]));
+
+        String emailMessage = employeeService.validateEmail(columns[4]);
+        if (null == emailMessage && !emails.add(columns[4].toLowerCase())) {
+            emailMessage = "Email repeated in file";
+        }
+        addMessage(messages, emailMessage);
+
+        for (int index = 5; index < COLUMN_COUNT; index += 4) {
+            addMessage(messages, addressService.validateDoorNo(columns[index]));
+            addMessage(messages, 
+                    addressService.validateStreet(columns[index + 1]));
+            addMessage(messages, 
+                    addressService.validateCity(columns[index + 2]));
+            addMessage(messages, 
+                    addressService.validatePinCode(columns[index + 3]));
+        }
+
+        return messages.isEmpty() ? null : String.join("; ", messages);
+    }
+
+    private void addMessage(List<String> messages, String message) {
+        if (null != message) {
+            messages.add(message);
+        }
+    }
+
+    /**
+     * Builds the employee graph of a valid row, the addresses are saved
+     * along with the employee. Addresses already saved, or already used
+     * by a pending row of this transaction, are shared. A new address
+     * saved meanwhile by another request fails the transaction on the
+     * unique content hash, and saving its rows one at a time then links
+     * the address the other request saved.
+     */
+    private Employee toEmployee(String[] columns,
+            Map<String, Address> pendingAddresses) {
+
+        Address currentAddress = resolveAddress(columns, 5, pendingAddresses);
+        Address permanentAddress = resolveAddress(columns, 9, 
+                pendingAddresses);
+
+        return getEmployeeService().createEmployee(columns[0],
+                LocalDate.parse(columns[1], DATE_FORMAT),
+                Long.parseLong(columns[2]), Double.parseDouble(columns[3]),
+                columns[4], currentAddress, permanentAddress);
+    }
+
+    private Address resolveAddress(String[] columns, int firstColumn,
+            Map<String, Address> pendingAddresses) {
+
+        Address address = getAddressService().findAddress(
+                columns[firstColumn], columns[firstColumn + 1],
+                columns[firstColumn + 2], 
+                Integer.parseInt(columns[firstColumn + 3]));
+
+        if (0 != address.getId()) {
+            return address;
+        }
+
+        Address pendingAddress = pendingAddresses.putIfAbsent(
+                address.getContentHash(), address);
+        return null == pendingAddress ? address : pendingAddress;
+    }
+}
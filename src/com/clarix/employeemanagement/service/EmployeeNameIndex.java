@@ -0,0 +1,260 @@
+/*
+ * File : EmployeeNameIndex.java
+ * Package : com.clarix.employeemanagement.service
+ * Description : Finds employees by the start of their name or email
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import com.clarix.employeemanagement.model.EmployeeMatch;
+import com.clarix.employeemanagement.repository.EmployeeRepository;
+
+/**
+ * Keeps the active employees in memory under every word of their name,
+ * their whole email and the words of the email before the '@', so that
+ * typeahead lookups by the start of those words never query the
+ * database. Each entry of the sorted set is a word followed by the
+ * employee id, so the employees under a prefix are one range of the set.
+ *
+ * The index is filled once by warmUp and then kept up to date by the
+ * employee service of this process. Lookups are lock free, changes are
+ * made one employee at a time.
+ */
+public class EmployeeNameIndex {
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final char LAST_CHARACTER = '\uFFFF';
+
+    private final NavigableSet<String> entries = 
+            new ConcurrentSkipListSet<>();
+    private final Map<Integer, EmployeeMatch> employees = 
+            new ConcurrentHashMap<>();
+    private volatile boolean warmedUp;
+
+    /**
+     * Loads the id, name and email of every active employee, the index
+     * answers lookups only after this
+     *
+     * @param employeeRepository source of the employees
+     */
+    public synchronized void warmUp(EmployeeRepository employeeRepository) {
+        if (!warmedUp) {
+            employeeRepository.forEachEmployeeMatch(this::add);
+            warmedUp = true;
+        }
+    }
+
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    /**
+     * Adds an employee or replaces its previous name and email
+     *
+     * @param employee id, name and email of an active employee
+     */
+    public synchronized void add(EmployeeMatch employee) {
+        EmployeeMatch previous = employees.put(employee.id(), employee);
+
+        if (null != previous) {
+            for (String word : words(previous)) {
+                entries.remove(entry(word, previous.id()));
+            }
+        }
+        for (String word : words(employee)) {
+            entries.add(entry(word, employee.id()));
+        }
+    }
+
+    /**
+     * Changes the name of an indexed employee
+     *
+     * @param id employee identification number
+     * @param name the new name
+     */
+    public synchronized void updateName(int id, String name) {
+        EmployeeMatch employee = employees.get(id);
+
+        if (null != employee) {
+            add(new EmployeeMatch(id, name, employee.email()));
+        }
+    }
+
+    /**
+     * Changes the email of an indexed employee
+     *
+     * @param id employee identification number
+     * @param email the new email
+     */
+    public synchronized void updateEmail(int id, String email) {
+        EmployeeMatch employee = employees.get(id);
+
+        if (null != employee) {
+            add(new EmployeeMatch(id, employee.name(), email));
+        }
+    }
+
+    /**
+     * Removes an employee that is no longer active
+     *
+     * @param id employee identification number
+     */
+    public synchronized void remove(int id) {
+        EmployeeMatch employee = employees.remove(id);
+
+        if (null != employee) {
+            for (String word : words(employee)) {
+                entries.remove(entry(word, id));
+            }
+        }
+    }
+
+    /**
+     * Finds employees having a word that starts with each word of the
+     * query, like "ra ku" for "Ravi Kumar"
+     *
+     * @param query start of one or more words of the name or email
+     * @param limit maximum number of employees to return
+     * @return the matching employees ordered by the matched word
+     */
+    public List<EmployeeMatch> lookup(String query, int limit) {
+        String[] prefixes = split(query);
+        List<EmployeeMatch> matches = new ArrayList<>();
+
+        if (0 == prefixes.length || limit < 1) {
+            return matches;
+        }
+
+        Iterable<String> candidates = 1 == prefixes.length 
+                ? range(prefixes[0]) : narrowestRange(prefixes);
+        Set<Integer> seenIds = new HashSet<>();
+
+        for (String entry : candidates) {
+            int id = Integer.parseInt(entry.substring(
+                    entry.lastIndexOf(ID_SEPARATOR) + 1));
+            if (!seenIds.add(id)) {
+                continue;
+            }
+
+            EmployeeMatch employee = employees.get(id);
+            if (null != employee && matchesAll(employee, prefixes)) {
+                matches.add(employee);
+                if (matches.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @param query start of one or more words of the name or email
+     * @return the lower case words of the query, as lookup compares them
+     */
+    static String[] prefixes(String query) {
+        return split(query);
+    }
+
+    /**
+     * @return true if every prefix starts a word of the name or email,
+     *         the test lookup applies to each candidate
+     */
+    static boolean matchesAll(EmployeeMatch employee, String[] prefixes) {
+        List<String> words = words(employee);
+
+        for (String prefix : prefixes) {
+            boolean matched = false;
+            for (String word : words) {
+                if (word.startsWith(prefix)) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private NavigableSet<String> range(String prefix) {
+        return entries.subSet(prefix, true, prefix + LAST_CHARACTER, true);
+    }
+
+    /**
+     * Walks the ranges of all prefixes side by side and returns the
+     * entries of the one that ends first, so the cost follows the rarest
+     * prefix rather than the most common one
+     */
+    private List<String> narrowestRange(String[] prefixes) {
+        List<Iterator<String>> iterators = new ArrayList<>();
+        List<List<String>> ranges = new ArrayList<>();
+
+        for (String prefix : prefixes) {
+            iterators.add(range(prefix).iterator());
+            ranges.add(new ArrayList<>());
+        }
+
+        while (true) {
+            for (int index = 0; index < prefixes.length; index++) {
+                Iterator<String> iterator = iterators.get(index);
+                if (!iterator.hasNext()) {
+                    return ranges.get(index);
+                }
+                ranges.get(index).add(iterator.next());
+            }
+        }
+    }
+
+    private String entry(String word, int id) {
+        return word + ID_SEPARATOR + id;
+    }
+
+    /**
+     * @return the words of the name, the whole email and the words of the
+     *         email before the '@'
+     */
+    private static List<String> words(EmployeeMatch employee) {
+        List<String> words = new ArrayList<>();
+
+        for (String word : split(employee.name())) {
+            words.add(word);
+        }
+
+        if (null != employee.email()) {
+            String email = employee.email().toLowerCase(Locale.ROOT);
+            words.add(email);
+
+            int at = email.indexOf('@');
+            String localPart = at < 0 ? email : email.substring(0, at);
+            for (String word : localPart.split("[._+-]")) {
+                if (!word.isEmpty() && !word.equals(email)) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    private static String[] split(String text) {
+        if (null == text || text.isBlank()) {
+            return new String[0];
+        }
+        return text.trim().toLowerCase(Locale.ROOT).split("\\s+");
+    }
+}
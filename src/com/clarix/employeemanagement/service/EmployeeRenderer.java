@@ -0,0 +1,204 @@
+/*
+ * File : EmployeeRenderer.java
+ * Package : com.clarix.employeemanagement.service
+ * Description : Writes employee details for display
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import com.clarix.employeemanagement.model.Address;
+import com.clarix.employeemanagement.model.Employee;
+import com.clarix.employeemanagement.model.EmployeeSummary;
+
+/**
+ * Writes employee details in the display format, one employee at a time.
+ * The text is built in a buffer that is reused for every employee without
+ * parsing a format string, so a listing of any size keeps a constant
+ * memory. A renderer is not thread safe, use one per listing.
+ */
+public class EmployeeRenderer {
+    private final StringBuilder buffer = new StringBuilder(512);
+    private char[] characters = new char[512];
+
+    /**
+     * Formats one employee
+     *
+     * @param employee details of one employee
+     * @return formatted employee information
+     */
+    public String render(Employee employee) {
+        buffer.setLength(0);
+        appendEmployee(employee);
+        return buffer.toString();
+    }
+
+    /**
+     * Formats one employee summary the same way as an employee
+     *
+     * @param employee flat details of one employee
+     * @return formatted employee information
+     */
+    public String render(EmployeeSummary employee) {
+        buffer.setLength(0);
+        appendEmployee(employee);
+        return buffer.toString();
+    }
+
+    /**
+     * Writes one employee to the writer
+     *
+     * @param employee details of one employee
+     * @param writer destination of the formatted employee
+     * @throws IOException if the writer fails
+     */
+    public void write(Employee employee, Writer writer) throws IOException {
+        buffer.setLength(0);
+        appendEmployee(employee);
+        writeBuffer(writer);
+    }
+
+    /**
+     * Writes one employee summary to the writer
+     *
+     * @param employee flat details of one employee
+     * @param writer destination of the formatted employee
+     * @throws IOException if the writer fails
+     */
+    public void write(EmployeeSummary employee, Writer writer) 
+            throws IOException {
+
+        buffer.setLength(0);
+        appendEmployee(employee);
+        writeBuffer(writer);
+    }
+
+    private void writeBuffer(Writer writer) throws IOException {
+        int length = buffer.length();
+        if (characters.length < length) {
+            characters = new char[Math.max(length, 2 * characters.length)];
+        }
+        buffer.getChars(0, length, characters, 0);
+        writer.write(characters, 0, length);
+    }
+
+    private void appendEmployee(Employee employee) {
+        appendDetails(employee.getId(), employee.getName(), 
+                employee.getDateOfBirth(), employee.getAge(), 
+                employee.getEmail(), employee.getPhoneNumber(), 
+                employee.getSalary(), employee.getActiveStatus());
+        appendAddress(employee.getCurrentAddress());
+        buffer.append("\nPermanent Address: ");
+        appendAddress(employee.getPermanentAddress());
+        buffer.append('\n');
+    }
+
+    private void appendEmployee(EmployeeSummary employee) {
+        appendDetails(employee.id(), employee.name(), employee.dateOfBirth(),
+                employee.age(), employee.email(), employee.phoneNumber(),
+                employee.salary(), employee.active());
+        appendAddress(employee.currentDoorNo(), employee.currentStreet(),
+                employee.currentCity(), employee.currentPinCode());
+        buffer.append("\nPermanent Address: ");
+        appendAddress(employee.permanentDoorNo(), 
+                employee.permanentStreet(), employee.permanentCity(),
+                employee.permanentPinCode());
+        buffer.append('\n');
+    }
+
+    /**
+     * Appends everything up to the current address
+     */
+    private void appendDetails(int id, String name, LocalDate dateOfBirth,
+            int age, String email, long phoneNumber, double salary,
+            boolean active) {
+
+        buffer.append("Id: ").append(id)
+                .append("\tName: ").append(name)
+                .append(" Dob: ");
+        appendDate(dateOfBirth);
+        buffer.append(" Age: ").append(age)
+                .append(" Email: ").append(email)
+                .append(" Phone: ").append(phoneNumber)
+                .append("\nSalary: ");
+        appendAmount(salary);
+        buffer.append(" Active: ").append(active)
+                .append(" Current Address: ");
+    }
+
+    /**
+     * Appends the address like Address.toString does
+     */
+    private void appendAddress(Address address) {
+        if (null == address) {
+            buffer.append("null");
+            return;
+        }
+
+        appendAddress(address.getDoorNo(), address.getStreet(), 
+                address.getCity(), address.getPinCode());
+    }
+
+    private void appendAddress(String doorNo, String street, String city,
+            int pinCode) {
+
+        buffer.append("Door No: ").append(doorNo)
+                .append("\nStreet: ").append(street)
+                .append("\nCity: ").append(city)
+                .append("\nPincode: ").append(pinCode);
+    }
+
+    /**
+     * Appends the date as yyyy-MM-dd like LocalDate.toString does
+     */
+    private void appendDate(LocalDate date) {
+        if (null == date) {
+            buffer.append("null");
+            return;
+        }
+
+        buffer.append(date.getYear()).append('-');
+        appendTwoDigits(date.getMonthValue());
+        buffer.append('-');
+        appendTwoDigits(date.getDayOfMonth());
+    }
+
+    /**
+     * Appends the amount rounded half up to two decimals like "%.2f" does.
+     * Amounts with more decimals, which validation never lets in, take the
+     * slower exact path.
+     */
+    private void appendAmount(double amount) {
+        double scaledAmount = Math.abs(amount) * 100;
+        long cents = Math.round(scaledAmount);
+
+        if (Math.abs(scaledAmount - cents) > 1e-6) {
+            buffer.append(BigDecimal.valueOf(amount)
+                    .setScale(2, RoundingMode.HALF_UP).toPlainString());
+            return;
+        }
+
+        if (amount < 0 && 0 != cents) {
+            buffer.append('-');
+        }
+        buffer.append(cents / 100).append('.');
+        appendTwoDigits((int) (cents % 100));
+    }
+
+    private void appendTwoDigits(int value) {
+        if (value < 10) {
+            buffer.append('0');
+        }
+        buffer.append(value);
+    }
+}
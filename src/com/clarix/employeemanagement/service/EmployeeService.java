@@ -12,12 +12,25 @@
 
 package com.clarix.employeemanagement.service;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.time.LocalDate;
-import java.time.Period;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import com.clarix.employeemanagement.model.Employee;
+import com.clarix.employeemanagement.model.EmployeeMatch;
+import com.clarix.employeemanagement.model.EmployeeSummary;
 import com.clarix.employeemanagement.model.Address;
+import com.clarix.employeemanagement.model.UpdateResult;
 import com.clarix.employeemanagement.repository.EmployeeRepository;
+import com.clarix.employeemanagement.repository.EmployeeSearchCriteria;
+import com.clarix.employeemanagement.util.WriteBehindStatistics;
 
 /**
  * Manages employee information and related validations
@@ -25,7 +38,20 @@ import com.clarix.employeemanagement.repository.EmployeeRepository;
  * @see com.clarix.employeemanagement.model.Employee
  */
 public class EmployeeService {
+    private static final int FETCH_SIZE = 500;
+    private static final int ARCHIVE_BATCH_SIZE = 500;
+    private static final int MAX_PATCH_ATTEMPTS = 3;
+    private static final ContactFilter CONTACT_FILTER = new ContactFilter();
+    private static final EmployeeNameIndex NAME_INDEX = 
+            new EmployeeNameIndex();
+    private static final EmployeeColumnStore COLUMN_STORE = 
+            new EmployeeColumnStore();
+    private static volatile WriteBehindQueue writeBehindQueue;
+    private static final String WRITE_BEHIND_PROPERTY = 
+            "employee.writeBehind";
     private EmployeeRepository employeeRepository;
+    private AddressService addressService;
+    private ValidationRules validationRules;
 
     public EmployeeRepository getEmployeeRepository() {
         if (null == employeeRepository) {
@@ -34,51 +60,110 @@ public class EmployeeService {
         return employeeRepository;
     }
 
+    public AddressService getAddressService() {
+        if (null == addressService) {
+            addressService = new AddressService();
+        }
+        return addressService;
+    }
+
+    public ValidationRules getValidationRules() {
+        if (null == validationRules) {
+            validationRules = new ValidationRules();
+        }
+        return validationRules;
+    }
+
     /**
-     * Adds a new employee
+     * Adds a new employee. Addresses created by 
+     * AddressService.createAddress are saved along with the employee in
+     * one transaction.
      *
      * @param name employee name
      * @param dateOfBirth employee birth date
-     * @param address employee address details
      * @param phoneNumber employe mobile number
      * @param salary employee salary
      * @param email employee email id
-     * @param pinCode address pincode
+     * @param currentAddress employee current address
+     * @param permanentAddress employee permanent address
      * @return status message after adding the employee
      */
     public String addEmployee(String name, LocalDate dateOfBirth,
             long phoneNumber, double salary, String email, 
             Address currentAddress, Address permanentAddress) {
      
-        int age = calculateAge(dateOfBirth);
-        
+        Employee employee = createEmployee(name, dateOfBirth, phoneNumber,
+                salary, email, currentAddress, permanentAddress);
+
+        Employee savedEmployee = saveEmployee(employee);
+        return String.format("Employee saved successfully: %s", savedEmployee);                        
+    }	
+
+    /**
+     * Saves a new employee along with its unsaved addresses
+     *
+     * @param employee the employee to save
+     * @return the employee with its id
+     */
+    public Employee saveEmployee(Employee employee) {
+        Employee savedEmployee = getEmployeeRepository().addEmployee(employee);
+        registerContacts(savedEmployee);
+        registerAddresses(savedEmployee);
+        indexEmployee(savedEmployee);
+        markChanged(savedEmployee.getId());
+        return savedEmployee;
+    }
+
+    /**
+     * Creates an active employee that is not yet saved. When the current
+     * and permanent address are the same new address, one address is
+     * used for both.
+     *
+     * @param name employee name
+     * @param dateOfBirth employee birth date
+     * @param phoneNumber employee mobile number
+     * @param salary employee salary
+     * @param email employee email id
+     * @param currentAddress employee current address
+     * @param permanentAddress employee permanent address
+     * @return the new employee
+     */
+    public Employee createEmployee(String name, LocalDate dateOfBirth,
+            long phoneNumber, double salary, String email,
+            Address currentAddress, Address permanentAddress) {
+
         Employee employee = new Employee();
         employee.setName(name);
         employee.setDateOfBirth(dateOfBirth);
         employee.setPhoneNumber(phoneNumber);
         employee.setSalary(salary);
         employee.setEmail(email);
-        employee.setAge(age);
         employee.setActiveStatus(true);
         employee.setCurrentAddress(currentAddress);
-        employee.setPermanentAddress(permanentAddress);
+        employee.setPermanentAddress(isSameNewAddress(currentAddress,
+                permanentAddress) ? currentAddress : permanentAddress);
 
-        Employee savedEmployee = getEmployeeRepository().addEmployee(employee);
-        return String.format("Employee saved successfully: %s", savedEmployee);                        
-    }	
+        return employee;
+    }
 
     /**
      * Update employee name
      *
      * @param id employee identification number
      * @param name employee name
+     * @return UPDATED, NOT_FOUND if no active employee has the id,
+     *         CONFLICT if concurrent updates won every attempt, or QUEUED
+     *         when write-behind is on
      */
-    public void updateName(int id, String name) {
-        Employee employee = getEmployeeRepository().getEmployeeById(id);
-        if (null != employee) {
-            employee.setName(name);
-            getEmployeeRepository().updateEmployee(employee);
+    public UpdateResult updateName(int id, String name) {
+        UpdateResult result = patchEmployee(id,
+                employee -> employee.setName(name));
+
+        if (result.isUpdated()) {
+            NAME_INDEX.updateName(id, name);
+            markChanged(id);
         }
+        return result;
     }
 
     /**
@@ -86,42 +171,59 @@ public class EmployeeService {
      * 
      * @param id employee identification number
      * @param dateOfBirth employee date of birth
+     * @return UPDATED, NOT_FOUND if no active employee has the id,
+     *         CONFLICT if concurrent updates won every attempt, or QUEUED
+     *         when write-behind is on
      */
-    public void updateBirthDate(int id, LocalDate dateOfBirth) {
-        Employee employee = getEmployeeRepository().getEmployeeById(id);
-        if (null != employee) {
-            employee.setDateOfBirth(dateOfBirth);
-            getEmployeeRepository().updateEmployee(employee);
+    public UpdateResult updateBirthDate(int id, LocalDate dateOfBirth) {
+        UpdateResult result = patchEmployee(id,
+                employee -> employee.setDateOfBirth(dateOfBirth));
+
+        if (result.isUpdated()) {
+            markChanged(id);
         }
+        return result;
     }
 
     /**
-     * Update employee email
+     * Update employee email, never queued so that a duplicate email is
+     * reported at once
      *
      * @param id employee identification number
      * @param email employee email 
+     * @return UPDATED, NOT_FOUND if no active employee has the id, or
+     *         CONFLICT if concurrent updates won every attempt
      */
-    public void updateEmail(int id, String email) {
-        Employee employee = getEmployeeRepository().getEmployeeById(id);
-        if (null != employee) {
-            employee.setEmail(email);
-            getEmployeeRepository().updateEmployee(employee);
+    public UpdateResult updateEmail(int id, String email) {
+        UpdateResult result = patchWithRetry(id,
+                employee -> employee.setEmail(email));
+
+        if (result.isUpdated()) {
+            CONTACT_FILTER.addEmail(email);
+            NAME_INDEX.updateEmail(id, email);
         }
+        return result;
     }
 
     /**
-     * Update employee phone number
+     * Update employee phone number, never queued so that a duplicate
+     * phone number is reported at once
      * 
      * @param id employee identification number
      * @param phone employee phone number
+     * @return UPDATED, NOT_FOUND if no active employee has the id, or
+     *         CONFLICT if concurrent updates won every attempt
      */
-    public void updatePhoneNumber(int id, String phone) {
-        Employee employee = getEmployeeRepository().getEmployeeById(id);
-        Long phoneNumber = Long.parseLong(phone);
-        if (null != employee) {
-            employee.setPhoneNumber(phoneNumber);
-            getEmployeeRepository().updateEmployee(employee);
+    public UpdateResult updatePhoneNumber(int id, String phone) {
+        long phoneNumber = Long.parseLong(phone);
+        UpdateResult result = patchWithRetry(id,
+                employee -> employee.setPhoneNumber(phoneNumber));
+
+        if (result.isUpdated()) {
+            CONTACT_FILTER.addPhoneNumber(phoneNumber);
+            markChanged(id);
         }
+        return result;
     }
 
     /**
@@ -129,14 +231,169 @@ public class EmployeeService {
      * 
      * @param id employee identification number
      * @param validSalary salary to be validated
+     * @return UPDATED, NOT_FOUND if no active employee has the id,
+     *         CONFLICT if concurrent updates won every attempt, or QUEUED
+     *         when write-behind is on
      */
-    public void updateSalary(int id, String validSalary) {
-        Employee employee = getEmployeeRepository().getEmployeeById(id);
-        Double salary = Double.parseDouble(validSalary);
-        if (null != employee) {
-            employee.setSalary(salary);
-            getEmployeeRepository().updateEmployee(employee);
+    public UpdateResult updateSalary(int id, String validSalary) {
+        double salary = Double.parseDouble(validSalary);
+        UpdateResult result = patchEmployee(id,
+                employee -> employee.setSalary(salary));
+
+        if (result.isUpdated()) {
+            markChanged(id);
         }
+        return result;
+    }
+
+    /**
+     * Updates several fields of an employee in one transaction, so the
+     * change is applied completely or not at all. A null field is left
+     * unchanged. Like updateEmail, a change of email or phone number is
+     * never queued.
+     *
+     * @param id employee identification number
+     * @param name employee name
+     * @param dateOfBirth employee date of birth
+     * @param email employee email
+     * @param phone employee phone number
+     * @param validSalary validated salary
+     * @return UPDATED, NOT_FOUND if no active employee has the id,
+     *         CONFLICT if concurrent updates won every attempt, or QUEUED
+     *         when write-behind is on and neither email nor phone number
+     *         changes
+     */
+    public UpdateResult updateEmployee(int id, String name, 
+            LocalDate dateOfBirth, String email, String phone,
+            String validSalary) {
+
+        Long phoneNumber = null == phone ? null : Long.parseLong(phone);
+        Double salary = null == validSalary 
+                ? null : Double.parseDouble(validSalary);
+        Consumer<Employee> patch = employee -> {
+            if (null != name) {
+                employee.setName(name);
+            }
+            if (null != dateOfBirth) {
+                employee.setDateOfBirth(dateOfBirth);
+            }
+            if (null != email) {
+                employee.setEmail(email);
+            }
+            if (null != phoneNumber) {
+                employee.setPhoneNumber(phoneNumber);
+            }
+            if (null != salary) {
+                employee.setSalary(salary);
+            }
+        };
+        UpdateResult result = null == email && null == phoneNumber
+                ? patchEmployee(id, patch)
+                : patchWithRetry(id, patch);
+
+        if (result.isUpdated()) {
+            if (null != name) {
+                NAME_INDEX.updateName(id, name);
+            }
+            if (null != email) {
+                CONTACT_FILTER.addEmail(email);
+                NAME_INDEX.updateEmail(id, email);
+            }
+            if (null != phoneNumber) {
+                CONTACT_FILTER.addPhoneNumber(phoneNumber);
+            }
+            markChanged(id);
+        }
+        return result;
+    }
+
+    /**
+     * Replaces the current address of the employee. An identical saved
+     * address is shared instead of adding a row, and an address shared
+     * with other employees is left unchanged for them.
+     *
+     * @param id employee identification number
+     * @param doorNo address doorNo
+     * @param street address street
+     * @param city address city
+     * @param pinCode address pincode
+     * @return true if an active employee was updated, false otherwise
+     */
+    public boolean updateCurrentAddress(int id, String doorNo, String street,
+            String city, int pinCode) {
+
+        return replaceAddress(id, doorNo, street, city, pinCode, false);
+    }
+
+    /**
+     * Replaces the permanent address of the employee. An identical saved
+     * address is shared instead of adding a row, and an address shared
+     * with other employees is left unchanged for them.
+     *
+     * @param id employee identification number
+     * @param doorNo address doorNo
+     * @param street address street
+     * @param city address city
+     * @param pinCode address pincode
+     * @return true if an active employee was updated, false otherwise
+     */
+    public boolean updatePermanentAddress(int id, String doorNo, 
+            String street, String city, int pinCode) {
+
+        return replaceAddress(id, doorNo, street, city, pinCode, true);
+    }
+
+    /**
+     * Applies the change now, or queues it when write-behind is on. A
+     * change is only queued for an active employee. The in-memory lookups
+     * of a queued change are updated by employeeWritten after its flush.
+     */
+    private UpdateResult patchEmployee(int id, Consumer<Employee> patch) {
+        WriteBehindQueue queue = writeBehindQueue;
+
+        if (null == queue) {
+            return patchWithRetry(id, patch);
+        }
+        if (!getEmployeeRepository().isEmployeeExist(id)) {
+            return UpdateResult.NOT_FOUND;
+        }
+        queue.patchEmployee(id, patch);
+        return UpdateResult.QUEUED;
+    }
+
+    /**
+     * Applies a single field change, reading the employee again and
+     * retrying when a concurrent update of the same employee wins. The
+     * change does not depend on the values read, so a retry is safe.
+     */
+    private UpdateResult patchWithRetry(int id, Consumer<Employee> patch) {
+        UpdateResult result;
+        int attempt = 0;
+
+        do {
+            result = getEmployeeRepository().patchEmployee(id, patch);
+        } while (UpdateResult.CONFLICT == result 
+                && ++attempt < MAX_PATCH_ATTEMPTS);
+
+        return result;
+    }
+
+    private boolean replaceAddress(int id, String doorNo, String street,
+            String city, int pinCode, boolean permanentAddress) {
+
+        Address address = getAddressService().findAddress(doorNo, street,
+                city, pinCode);
+        Address linkedAddress = getEmployeeRepository().replaceAddress(id,
+                address, permanentAddress);
+
+        if (null == linkedAddress) {
+            return false;
+        }
+
+        getAddressService().forgetAddress(linkedAddress.getId());
+        getAddressService().registerAddress(linkedAddress);
+        markChanged(id);
+        return true;
     }
 
     /**
@@ -146,12 +403,102 @@ public class EmployeeService {
      * @return status message after deletion
      */
     public String deleteEmployee(int id) {
-        boolean deletedEmployee = getEmployeeRepository().deleteEmployee(id);
+        boolean deletedEmployee = deactivateEmployee(id);
 
         return deletedEmployee ? "Employee deleted successfully"
                 : "Employee not found";
     }
 
+    /**
+     * Marks the employee as inactive
+     *
+     * @param id employee identification number
+     * @return true if an active employee was deleted, false otherwise
+     */
+    public boolean deactivateEmployee(int id) {
+        boolean deletedEmployee = getEmployeeRepository().deleteEmployee(id);
+
+        if (deletedEmployee) {
+            NAME_INDEX.remove(id);
+            markChanged(id);
+        }
+        return deletedEmployee;
+    }
+
+    /**
+     * Moves the employees deleted more than the given number of days ago,
+     * and the addresses nobody else uses, to the employee archive. Each
+     * batch is its own transaction, so a failure keeps the batches already
+     * archived and a later run carries on from there.
+     *
+     * @param inactiveDays days an employee stays deleted before archival
+     * @return number of employees archived
+     */
+    public int archiveInactiveEmployees(int inactiveDays) {
+        LocalDateTime deactivatedBefore = LocalDateTime.now()
+                .minusDays(inactiveDays);
+        int archivedEmployees = 0;
+        int archivedBatch;
+
+        do {
+            archivedBatch = getEmployeeRepository().archiveEmployees(
+                    deactivatedBefore, ARCHIVE_BATCH_SIZE, 
+                    this::markChanged, getAddressService()::forgetAddress);
+            archivedEmployees += archivedBatch;
+        } while (ARCHIVE_BATCH_SIZE == archivedBatch);
+
+        return archivedEmployees;
+    }
+
+    /**
+     * Retrieves an active employee along with the address details as a
+     * flat summary
+     *
+     * @param id employee identification number
+     * @return the employee summary or null if not found
+     */
+    public EmployeeSummary getEmployeeSummary(int id) {
+        return getEmployeeRepository().viewEmployeeSummaryById(id);
+    }
+
+    /**
+     * Passes every active employee with its addresses, as a flat summary,
+     * to the consumer as the rows are read
+     *
+     * @param consumer receives each employee summary in id order
+     */
+    public void forEachEmployee(Consumer<EmployeeSummary> consumer) {
+        getEmployeeRepository().forEachEmployeeSummary(FETCH_SIZE, consumer);
+    }
+
+    /**
+     * Reads one page of active employees as flat summaries, in id order
+     *
+     * @param lastId id of the last employee of the previous page, 0 for
+     *        the first page
+     * @param pageSize maximum number of employees in the page
+     * @return employee summaries, fewer than the page size on the last page
+     */
+    public List<EmployeeSummary> getEmployeeSummariesAfter(int lastId,
+            int pageSize) {
+
+        return getEmployeeRepository().viewEmployeeSummariesAfter(lastId,
+                pageSize);
+    }
+
+    /**
+     * Searches active employees by name prefix, current address city or
+     * pinCode, salary range and age range, sorted and paged
+     *
+     * @param criteria filters, order and page of the search
+     * @return the employees of the requested page
+     */
+    public List<EmployeeSummary> searchEmployees(
+            EmployeeSearchCriteria criteria) {
+
+        return getEmployeeRepository().searchEmployees(criteria);
+    }
+
     /**
      * Displays the employee information by id
      *
@@ -159,7 +506,8 @@ public class EmployeeService {
      * @return the formatted employee details
      */
     public String viewEmployeeById(int id) {
-        Employee employee = getEmployeeRepository().viewEmployeeById(id);
+        EmployeeSummary employee = getEmployeeRepository()
+                .viewEmployeeSummaryById(id);
         return formatEmployee(employee);
     }
 
@@ -169,18 +517,42 @@ public class EmployeeService {
      * @return the formatted employee details
      */
     public String viewAllEmployee() {
-        List<Employee> employees = getEmployeeRepository().viewAllEmployees();
-        StringBuilder builder = new StringBuilder();
- 
-        if (!employees.isEmpty()) {
-            for (Employee employee : employees) {
-                builder.append(formatEmployee(employee)).append("\n");
+        StringWriter writer = new StringWriter();
+
+        try {
+            writeAllEmployees(writer);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        return writer.toString();
+    }
+
+    /**
+     * Writes all the available employee information to the writer as the
+     * rows are read, without holding the listing in memory
+     *
+     * @param writer destination of the formatted employee details
+     * @throws IOException if the writer fails
+     */
+    public void writeAllEmployees(Writer writer) throws IOException {
+        EmployeeRenderer renderer = new EmployeeRenderer();
+        boolean employeeFound = false;
+
+        try (Stream<EmployeeSummary> employees = getEmployeeRepository()
+                .streamEmployeeSummaries(FETCH_SIZE)) {
+
+            Iterator<EmployeeSummary> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                renderer.write(iterator.next(), writer);
+                writer.write('\n');
+                employeeFound = true;
             }
-        } else {
-            builder.append("No employees found");
         }
 
-        return builder.toString();
+        if (!employeeFound) {
+            writer.write("No employees found");
+        }
     }
 
     /**
@@ -190,8 +562,7 @@ public class EmployeeService {
      * @return valildation message or null if valid
      */
     public String validateName(String name) {
-        return name.matches("^[A-Za-z ]{3,30}$") ? null 
-                : "Invalid name (3-30 letters only)";
+        return getValidationRules().validateName(name);
     }
 
     /**
@@ -201,8 +572,7 @@ public class EmployeeService {
      * @return validation message or null if valid
      */
     public String validateDateOfBirth(LocalDate dateOfBirth) {
-        int age = calculateAge(dateOfBirth);
-        return (age >= 18 && age <= 60) ? null : "Employee age must be 18-60";
+        return getValidationRules().validateDateOfBirth(dateOfBirth);
     }
     
     /**
@@ -212,9 +582,27 @@ public class EmployeeService {
      * @return validation message or null if valid
      */
     public String validateEmail(String email) {
-        return !email.matches("^[A-Za-z0-9_.]+@[A-Za-z0-9.]+$")
-                ? "Invalid Email format" 
-                : getEmployeeRepository().isEmailExist(email)
+        String formatMessage = getValidationRules().validateEmail(email);
+
+        return null != formatMessage ? formatMessage
+                : isEmailTaken(email)
+                ? "Email already exist"
+                : null;
+    }
+
+    /**
+     * Validates a new email of an existing employee, the employee's own
+     * current email is not reported as taken
+     *
+     * @param id employee identification number
+     * @param email employee email
+     * @return validation message or null if valid
+     */
+    public String validateEmail(int id, String email) {
+        String formatMessage = getValidationRules().validateEmail(email);
+
+        return null != formatMessage ? formatMessage
+                : isEmailTakenByOther(id, email)
                 ? "Email already exist"
                 : null;
     }
@@ -226,10 +614,29 @@ public class EmployeeService {
      * @return validation message or null if valid
      */
     public String validatePhoneNumber(String phoneNumber) {
-        return !phoneNumber.matches("^[6-9][0-9]{9}$")
-                ? "Invalid mobile format"
-                : getEmployeeRepository()
-                    .isPhoneNumberExist(Long.parseLong(phoneNumber))
+        String formatMessage = getValidationRules()
+                .validatePhoneNumber(phoneNumber);
+
+        return null != formatMessage ? formatMessage
+                : isPhoneNumberTaken(Long.parseLong(phoneNumber))
+                ? "Phone number already exist"
+                : null;
+    }
+
+    /**
+     * Validates a new phone number of an existing employee, the employee's
+     * own current number is not reported as taken
+     *
+     * @param id employee identification number
+     * @param phoneNumber employee phone number
+     * @return validation message or null if valid
+     */
+    public String validatePhoneNumber(int id, String phoneNumber) {
+        String formatMessage = getValidationRules()
+                .validatePhoneNumber(phoneNumber);
+
+        return null != formatMessage ? formatMessage
+                : isPhoneNumberTakenByOther(id, Long.parseLong(phoneNumber))
                 ? "Phone number already exist"
                 : null;
     }
@@ -241,9 +648,247 @@ public class EmployeeService {
      * @return validation message or null if valid
      */
     public String validateSalary(String salary) {
-        return !salary.matches("^[0-9]{1,6}(\\.[0-9]{1,2})?$")
-                ? "salary upto 6 digits only"
-                : null;
+        return getValidationRules().validateSalary(salary);
+    }
+
+    /**
+     * Loads the emails and phone numbers in use, so that uniqueness checks
+     * of free values no longer query the database
+     */
+    public void warmUpContactFilter() {
+        CONTACT_FILTER.warmUp(getEmployeeRepository());
+    }
+
+    /**
+     * Loads the names and emails of the active employees, so that lookups
+     * by name no longer query the database
+     */
+    public void warmUpNameIndex() {
+        NAME_INDEX.warmUp(getEmployeeRepository());
+    }
+
+    /**
+     * Returns the in-memory column store of every employee, loading it on
+     * first use
+     *
+     * @return the column store, kept up to date with the changes made
+     *         through this service
+     */
+    public EmployeeColumnStore getColumnStore() {
+        if (!COLUMN_STORE.isWarmedUp()) {
+            synchronized (COLUMN_STORE) {
+                if (!COLUMN_STORE.isWarmedUp()) {
+                    COLUMN_STORE.warmUp(getEmployeeRepository());
+                }
+            }
+        }
+        return COLUMN_STORE;
+    }
+
+    /**
+     * Turns on write-behind: employee and address updates are queued and
+     * written together in one transaction every flush interval or batch
+     * size rows, instead of one transaction each. Has no effect when it
+     * is already on.
+     *
+     * @param flushIntervalMillis longest time an update waits
+     * @param batchSize number of waiting rows that starts a flush
+     * @param capacity number of waiting rows that blocks new updates
+     */
+    public static synchronized void enableWriteBehind(
+            long flushIntervalMillis, int batchSize, int capacity) {
+
+        if (null == writeBehindQueue) {
+            writeBehindQueue = new WriteBehindQueue(new EmployeeRepository(),
+                    flushIntervalMillis, batchSize, capacity,
+                    EmployeeService::employeeWritten, 
+                    EmployeeService::addressWritten);
+        }
+    }
+
+    /**
+     * Brings the in-memory lookups up to date with an employee written by
+     * a write-behind flush
+     */
+    private static void employeeWritten(Employee employee) {
+        NAME_INDEX.add(new EmployeeMatch(employee.getId(), 
+                employee.getName(), employee.getEmail()));
+        COLUMN_STORE.markChanged(employee.getId());
+    }
+
+    /**
+     * Brings the in-memory lookups up to date with an address written by
+     * a write-behind flush
+     */
+    private static void addressWritten(Address address) {
+        new AddressService().registerAddress(address);
+        COLUMN_STORE.markAddressChanged(address.getId());
+    }
+
+    /**
+     * Turns on write-behind when the employee.writeBehind system property
+     * is true, with the flushMillis, batchSize and capacity taken from the
+     * employee.writeBehind.* properties
+     */
+    public static void configureWriteBehind() {
+        if (Boolean.getBoolean(WRITE_BEHIND_PROPERTY)) {
+            enableWriteBehind(
+                    Long.getLong(WRITE_BEHIND_PROPERTY + ".flushMillis", 50),
+                    Integer.getInteger(WRITE_BEHIND_PROPERTY + ".batchSize",
+                            500),
+                    Integer.getInteger(WRITE_BEHIND_PROPERTY + ".capacity",
+                            10000));
+        }
+    }
+
+    /**
+     * Writes every queued update and goes back to writing each update in
+     * its own transaction
+     *
+     * @return the counters of the closed queue or null when write-behind
+     *         was off
+     */
+    public static synchronized WriteBehindStatistics disableWriteBehind() {
+        WriteBehindQueue queue = writeBehindQueue;
+
+        if (null == queue) {
+            return null;
+        }
+        writeBehindQueue = null;
+        queue.close();
+        return queue.getStatistics();
+    }
+
+    /**
+     * @return the write-behind queue or null when write-behind is off
+     */
+    public static WriteBehindQueue getWriteBehindQueue() {
+        return writeBehindQueue;
+    }
+
+    /**
+     * Records that the employee was added or changed, so the column store
+     * reads it again before its next scan
+     *
+     * @param id employee identification number
+     */
+    public void markChanged(int id) {
+        COLUMN_STORE.markChanged(id);
+    }
+
+    /**
+     * Records that an address was changed in place, so the column store
+     * reads the employees living there again before its next scan
+     *
+     * @param addressId address identification number
+     */
+    public void markAddressChanged(int addressId) {
+        COLUMN_STORE.markAddressChanged(addressId);
+    }
+
+    /**
+     * Finds active employees by the start of the words of their name or
+     * email, like "ra ku" for "Ravi Kumar", ignoring case. Until the name
+     * index is warmed up, the same words are matched by scanning the
+     * employees in the database, and the matches come in name order
+     * instead of matched word order.
+     *
+     * @param query start of one or more words of the name or email
+     * @param limit maximum number of employees to return
+     * @return the matching employees
+     */
+    public List<EmployeeMatch> lookupEmployees(String query, int limit) {
+        if (NAME_INDEX.isWarmedUp()) {
+            return NAME_INDEX.lookup(query, limit);
+        }
+
+        String[] prefixes = EmployeeNameIndex.prefixes(query);
+        List<EmployeeMatch> matches = new ArrayList<>();
+
+        if (0 == prefixes.length || limit < 1) {
+            return matches;
+        }
+
+        getEmployeeRepository().forEachEmployeeMatchContaining(prefixes,
+                employee -> {
+            if (EmployeeNameIndex.matchesAll(employee, prefixes)) {
+                matches.add(employee);
+            }
+            return matches.size() < limit;
+        });
+        return matches;
+    }
+
+    /**
+     * Adds a saved employee to the name index
+     *
+     * @param employee the saved employee
+     */
+    public void indexEmployee(Employee employee) {
+        NAME_INDEX.add(new EmployeeMatch(employee.getId(), 
+                employee.getName(), employee.getEmail()));
+    }
+
+    /**
+     * Remembers the email and phone number of a saved employee as taken
+     *
+     * @param employee the saved employee
+     */
+    public void registerContacts(Employee employee) {
+        CONTACT_FILTER.addEmail(employee.getEmail());
+        CONTACT_FILTER.addPhoneNumber(employee.getPhoneNumber());
+    }
+
+    /**
+     * Remembers the addresses of a saved employee, so that the same
+     * addresses entered again resolve to them
+     *
+     * @param employee the saved employee
+     */
+    public void registerAddresses(Employee employee) {
+        getAddressService().registerAddress(employee.getCurrentAddress());
+        getAddressService().registerAddress(employee.getPermanentAddress());
+    }
+
+    private boolean isSameNewAddress(Address currentAddress, 
+            Address permanentAddress) {
+
+        return null != currentAddress && null != permanentAddress
+                && 0 == currentAddress.getId() 
+                && 0 == permanentAddress.getId()
+                && null != currentAddress.getContentHash()
+                && currentAddress.getContentHash()
+                        .equals(permanentAddress.getContentHash());
+    }
+
+    private boolean isEmailTaken(String email) {
+        return CONTACT_FILTER.mightContainEmail(email)
+                && getEmployeeRepository().isEmailExist(email);
+    }
+
+    private boolean isPhoneNumberTaken(long phoneNumber) {
+        return CONTACT_FILTER.mightContainPhoneNumber(phoneNumber)
+                && getEmployeeRepository().isPhoneNumberExist(phoneNumber);
+    }
+
+    private boolean isEmailTakenByOther(int id, String email) {
+        if (!CONTACT_FILTER.mightContainEmail(email)) {
+            return false;
+        }
+
+        Integer employeeId = getEmployeeRepository()
+                .getEmployeeIdByEmail(email);
+        return null != employeeId && id != employeeId;
+    }
+
+    private boolean isPhoneNumberTakenByOther(int id, long phoneNumber) {
+        if (!CONTACT_FILTER.mightContainPhoneNumber(phoneNumber)) {
+            return false;
+        }
+
+        Integer employeeId = getEmployeeRepository()
+                .getEmployeeIdByPhoneNumber(phoneNumber);
+        return null != employeeId && id != employeeId;
     }
 
     /**
@@ -257,13 +902,23 @@ public class EmployeeService {
     }
 
     /**
-     * calculate employee age based on the date of birth
+     * Checks if an active employee with the id is present
      *
-     * @param dateOfBirth employee date of birth
-     * @return age of the employee
+     * @param id employee identification number
+     * @return true if the employee exists, false otherwise
      */
-    public int calculateAge(LocalDate dateOfBirth) {
-        return Period.between(dateOfBirth, LocalDate.now()).getYears();
+    public boolean isEmployeeExist(int id) {
+        return getEmployeeRepository().isEmployeeExist(id);
+    }
+
+    /**
+     * Retrieves the address ids of an active employee
+     *
+     * @param id employee identification number
+     * @return current and permanent address ids or null if not found
+     */
+    public int[] getAddressIds(int id) {
+        return getEmployeeRepository().getAddressIds(id);
     }
 
     /**
@@ -277,16 +932,20 @@ public class EmployeeService {
         if (null == employee) 
             return "Employee not found";
 
-        return String.format("""
-                Id: %d	Name: %s Dob: %s Age: %d Email: %s Phone: %d
-                Salary: %.2f Active: %b Current Address: %s
-                Permanent Address: %s
-                """, employee.getId(), employee.getName(), 
-                employee.getDateOfBirth(), employee.getAge(), 
-                employee.getEmail(), employee.getPhoneNumber(),
-                employee.getSalary(), employee.getActiveStatus(),
-                employee.getCurrentAddress(), employee.getPermanentAddress()
-      
-        );
+        return new EmployeeRenderer().render(employee);
+    }
+
+    /**
+     * Formats employee summary details for display
+     *
+     * @param employee flat details of one employee
+     * @return formatted employee information 
+     */
+    public String formatEmployee(EmployeeSummary employee) {
+        
+        if (null == employee) 
+            return "Employee not found";
+
+        return new EmployeeRenderer().render(employee);
     }
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+/*
+ * File : PayrollAnalytics.java
+ * Package : com.clarix.employeemanagement.service
+ * Description : Summarizes employee salaries by city, age band or status
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import com.clarix.employeemanagement.model.SalaryStats;
+import com.clarix.employeemanagement.repository.PayrollGroup;
+
+/**
+ * Produces payroll summaries: count, total, average, minimum and maximum
+ * salary of each group, and optionally the median and percentiles.
+ *
+ * Summaries without percentiles are grouped and aggregated by the
+ * database, which returns one row per group. Percentiles need every
+ * salary, so those summaries are computed from the in-memory employee
+ * column store, which is kept up to date by the write paths.
+ *
+ * @see EmployeeColumnStore
+ */
+public class PayrollAnalytics {
+    private EmployeeService employeeService;
+
+    public EmployeeService getEmployeeService() {
+        if (null == employeeService) {
+            employeeService = new EmployeeService();
+        }
+        return employeeService;
+    }
+
+    /**
+     * Summarizes the salaries of each group
+     *
+     * @param group how the employees are grouped
+     * @param withPercentiles true to include the median and percentiles
+     * @return the salary figures of each group in group order
+     */
+    public List<SalaryStats> summarizeSalaries(PayrollGroup group, 
+            boolean withPercentiles) {
+
+        return withPercentiles 
+                ? summarize(getEmployeeService().getColumnStore(), group)
+                : getEmployeeService().getEmployeeRepository()
+                        .aggregateSalaries(group);
+    }
+
+    /**
+     * Computes the summary of each group from the column store. One scan
+     * copies the salaries into an array per group, then the groups are
+     * sorted and measured in parallel.
+     */
+    private List<SalaryStats> summarize(EmployeeColumnStore columnStore,
+            PayrollGroup group) {
+
+        SalaryGroups salaryGroups = new SalaryGroups();
+        columnStore.scan(group.isActiveOnly() ? columnStore.active()
+                : columnStore.all(), row -> salaryGroups.add(
+                        groupNumber(columnStore, group, row), 
+                        columnStore.salary(row)));
+
+        List<SalaryStats> salaryStats = IntStream.range(0, 
+                salaryGroups.sizes.length).parallel()
+                .filter(groupNumber -> salaryGroups.sizes[groupNumber] > 0)
+                .mapToObj(groupNumber -> measure(label(columnStore, group,
+                        groupNumber), Arrays.copyOf(
+                                salaryGroups.salaries[groupNumber],
+                                salaryGroups.sizes[groupNumber])))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        if (PayrollGroup.CITY == group) {
+            salaryStats.sort(Comparator.comparing(SalaryStats::group));
+        }
+        return salaryStats;
+    }
+
+    private int groupNumber(EmployeeColumnStore columnStore, 
+            PayrollGroup group, int row) {
+
+        return switch (group) {
+            case ALL -> 0;
+            case CITY -> columnStore.cityCode(row);
+            case AGE_BAND -> columnStore.age(row) 
+                    / PayrollGroup.AGE_BAND_YEARS;
+            case ACTIVE_STATUS -> columnStore.isActive(row) ? 0 : 1;
+        };
+    }
+
+    private String label(EmployeeColumnStore columnStore, 
+            PayrollGroup group, int groupNumber) {
+
+        return switch (group) {
+            case ALL -> group.label(null);
+            case CITY -> group.label(columnStore.city(groupNumber));
+            case AGE_BAND -> group.label(groupNumber 
+                    * PayrollGroup.AGE_BAND_YEARS);
+            case ACTIVE_STATUS -> group.label(0 == groupNumber);
+        };
+    }
+
+    /**
+     * Sorts the salaries of one group in place and reads the figures off
+     * the sorted array
+     */
+    private SalaryStats measure(String label, double[] salaries) {
+        Arrays.parallelSort(salaries);
+        double total = Arrays.stream(salaries).sum();
+
+        return new SalaryStats(label, salaries.length, total,
+                total / salaries.length, salaries[0],
+                salaries[salaries.length - 1], percentile(salaries, 50),
+                percentile(salaries, 90), percentile(salaries, 99));
+    }
+
+    /**
+     * @return the nearest rank percentile of sorted salaries
+     */
+    private double percentile(double[] sortedSalaries, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sortedSalaries.length);
+        return sortedSalaries[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Salaries of each group number, in arrays that grow as needed
+     */
+    private static class SalaryGroups {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private double[][] salaries = new double[0][];
+        private int[] sizes = new int[0];
+
+        private void add(int groupNumber, double salary) {
+            if (groupNumber >= sizes.length) {
+                int groupCount = groupNumber + 1;
+                salaries = Arrays.copyOf(salaries, groupCount);
+                sizes = Arrays.copyOf(sizes, groupCount);
+            }
+            if (null == salaries[groupNumber]) {
+                salaries[groupNumber] = new double[INITIAL_CAPACITY];
+            } else if (sizes[groupNumber] == salaries[groupNumber].length) {
+                salaries[groupNumber] = Arrays.copyOf(salaries[groupNumber],
+                        2 * sizes[groupNumber]);
+            }
+            salaries[groupNumber][sizes[groupNumber]++] = salary;
+        }
+    }
+}
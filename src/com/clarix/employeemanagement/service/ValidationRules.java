@@ -0,0 +1,151 @@
+/*
+ * File : ValidationRules.java
+ * Package : com.clarix.employeemanagement.service
+ * Description : Validates employee and address details
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.service;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.regex.Pattern;
+
+/**
+ * Holds the format rules of employee and address details. Patterns are
+ * compiled once and the simple numeric rules are checked with plain
+ * character scans, so validating a value allocates nothing. The rules
+ * accept exactly what the former String.matches checks accepted.
+ *
+ * Every validate method returns the validation message or null if valid.
+ */
+public class ValidationRules {
+    public static final String INVALID_NAME = 
+            "Invalid name (3-30 letters only)";
+    public static final String INVALID_AGE = "Employee age must be 18-60";
+    public static final String INVALID_EMAIL = "Invalid Email format";
+    public static final String INVALID_PHONE_NUMBER = "Invalid mobile format";
+    public static final String INVALID_SALARY = "salary upto 6 digits only";
+    public static final String INVALID_DOOR_NO = "Invalid door no";
+    public static final String INVALID_STREET = 
+            "Invalid street name (Max 50 characters, only . - allowed)";
+    public static final String INVALID_CITY = 
+            "Invalid city name (Max 50 characters allowed)";
+    public static final String INVALID_PIN_CODE = 
+            "Invalid pincode (Max 6 digits allowed)";
+
+    private static final Pattern EMAIL_PATTERN = 
+            Pattern.compile("[A-Za-z0-9_.]+@[A-Za-z0-9.]+");
+    private static final Pattern DOOR_NO_PATTERN = 
+            Pattern.compile("[A-Za-z0-9]+([ /-][A-Za-z0-9]+)*");
+
+    public String validateName(String name) {
+        return isLettersOrSpaces(name, 3, 30) ? null : INVALID_NAME;
+    }
+
+    public String validateDateOfBirth(LocalDate dateOfBirth) {
+        int age = Period.between(dateOfBirth, LocalDate.now()).getYears();
+        return (age >= 18 && age <= 60) ? null : INVALID_AGE;
+    }
+
+    public String validateEmail(String email) {
+        return EMAIL_PATTERN.matcher(email).matches() ? null : INVALID_EMAIL;
+    }
+
+    public String validatePhoneNumber(String phoneNumber) {
+        if (10 != phoneNumber.length() || phoneNumber.charAt(0) < '6'
+                || phoneNumber.charAt(0) > '9') {
+            return INVALID_PHONE_NUMBER;
+        }
+
+        return isDigits(phoneNumber, 1, 10) ? null : INVALID_PHONE_NUMBER;
+    }
+
+    public String validateSalary(String salary) {
+        int point = salary.indexOf('.');
+        int integerDigits = (-1 == point) ? salary.length() : point;
+        int fractionDigits = (-1 == point) ? 0 : salary.length() - point - 1;
+
+        boolean validSalary = integerDigits >= 1 && integerDigits <= 6
+                && isDigits(salary, 0, integerDigits)
+                && (-1 == point || (fractionDigits >= 1 && fractionDigits <= 2
+                && isDigits(salary, point + 1, salary.length())));
+
+        return validSalary ? null : INVALID_SALARY;
+    }
+
+    public String validateDoorNo(String doorNo) {
+        return DOOR_NO_PATTERN.matcher(doorNo).matches() 
+                ? null : INVALID_DOOR_NO;
+    }
+
+    public String validateStreet(String street) {
+        int length = street.length();
+        if (length < 1 || length > 50) {
+            return INVALID_STREET;
+        }
+
+        for (int index = 0; index < length; index++) {
+            char character = street.charAt(index);
+            if (!isLetterOrDigit(character) && ' ' != character 
+                    && '.' != character && '-' != character) {
+                return INVALID_STREET;
+            }
+        }
+
+        return null;
+    }
+
+    public String validateCity(String city) {
+        return isLettersOrSpaces(city, 1, 50) ? null : INVALID_CITY;
+    }
+
+    public String validatePinCode(String pinCode) {
+        int length = pinCode.length();
+        return (length >= 1 && length <= 6 && isDigits(pinCode, 0, length))
+                ? null : INVALID_PIN_CODE;
+    }
+
+    private boolean isLettersOrSpaces(String value, int minimumLength,
+            int maximumLength) {
+
+        int length = value.length();
+        if (length < minimumLength || length > maximumLength) {
+            return false;
+        }
+
+        for (int index = 0; index < length; index++) {
+            char character = value.charAt(index);
+            if (!isLetter(character) && ' ' != character) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isDigits(String value, int start, int end) {
+        for (int index = start; index < end; index++) {
+            char character = value.charAt(index);
+            if (character < '0' || character > '9') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isLetter(char character) {
+        return (character >= 'A' && character <= 'Z')
+                || (character >= 'a' && character <= 'z');
+    }
+
+    private boolean isLetterOrDigit(char character) {
+        return isLetter(character) || (character >= '0' && character <= '9');
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ * File : WriteBehindQueue.java
+ * Package : com.clarix.employeemanagement.service
+ * Description : Collects employee and address updates and writes them
+ *               together
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import javax.persistence.OptimisticLockException;
+import com.clarix.employeemanagement.model.Address;
+import com.clarix.employeemanagement.model.Employee;
+import com.clarix.employeemanagement.repository.EmployeeRepository;
+import com.clarix.employeemanagement.util.OperationMetrics;
+import com.clarix.employeemanagement.util.WriteBehindStatistics;
+
+/**
+ * Holds updates of employees and addresses in memory and writes them in
+ * one transaction every flush interval, or as soon as a batch worth of
+ * rows is waiting. Updates of a row that is already waiting are chained
+ * to its earlier updates, so the row is read and written once.
+ *
+ * At most capacity rows wait at a time; an update of another row then
+ * blocks until a flush takes the waiting rows. Closing the queue writes
+ * every waiting row before it returns. When the flush transaction fails,
+ * its rows are written one by one so a single bad update cannot hold
+ * back the others, and a row changed by a concurrent update is read
+ * again and retried like a direct update. A row that still loses to
+ * concurrent updates waits for the next flush, ahead of any update of it
+ * queued since. Rows that fail otherwise, or still lose once the queue is
+ * closed, are counted and the latest are kept with their reason in the
+ * statistics.
+ *
+ * Updates are visible to readers only after their flush, and the rows
+ * written are passed to the consumers after their transaction commits.
+ */
+public class WriteBehindQueue implements AutoCloseable {
+    private static final String FLUSH_OPERATION = "writeBehindFlush";
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+    private static final int MAX_REPORTED_FAILURES = 100;
+
+    private final EmployeeRepository employeeRepository;
+    private final int batchSize;
+    private final int capacity;
+    private final Consumer<Employee> employeeWritten;
+    private final Consumer<Address> addressWritten;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final ScheduledExecutorService flusher;
+    private final OperationMetrics flushMetrics = new OperationMetrics();
+    private final LongAdder submittedUpdates = new LongAdder();
+    private final LongAdder writtenRows = new LongAdder();
+    private final LongAdder failedRows = new LongAdder();
+    private final Deque<String> failures = new ArrayDeque<>();
+    private Map<Integer, Consumer<Employee>> employeePatches = 
+            new LinkedHashMap<>();
+    private Map<Integer, Consumer<Address>> addressPatches = 
+            new LinkedHashMap<>();
+    private boolean flushRequested;
+    private volatile boolean closed;
+
+    /**
+     * Starts the queue and its flush thread
+     *
+     * @param employeeRepository writes the updates
+     * @param flushIntervalMillis longest time an update waits
+     * @param batchSize number of waiting rows that starts a flush
+     * @param capacity number of waiting rows that blocks new rows
+     * @param employeeWritten receives each employee written
+     * @param addressWritten receives each address written
+     */
+    public WriteBehindQueue(EmployeeRepository employeeRepository,
+            long flushIntervalMillis, int batchSize, int capacity,
+            Consumer<Employee> employeeWritten, 
+            Consumer<Address> addressWritten) {
+
+        if (flushIntervalMillis < 1 || batchSize < 1 
+                || capacity < batchSize) {
+            throw new IllegalArgumentException("Invalid write-behind "
+                    + "settings: interval " + flushIntervalMillis 
+                    + " ms, batch " + batchSize + ", capacity " + capacity);
+        }
+
+        this.employeeRepository = employeeRepository;
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        this.employeeWritten = employeeWritten;
+        this.addressWritten = addressWritten;
+
+        flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "write-behind-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis,
+                flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues an update of an employee
+     *
+     * @param id employee identification number
+     * @param patch the change to apply to the employee
+     */
+    public void patchEmployee(int id, Consumer<Employee> patch) {
+        lock.lock();
+        try {
+            awaitRoom(employeePatches.containsKey(id));
+            employeePatches.merge(id, patch, Consumer::andThen);
+            afterSubmit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queues an update of an address
+     *
+     * @param id address identification number
+     * @param patch the change to apply to the address
+     */
+    public void patchAddress(int id, Consumer<Address> patch) {
+        lock.lock();
+        try {
+            awaitRoom(addressPatches.containsKey(id));
+            addressPatches.merge(id, patch, Consumer::andThen);
+            afterSubmit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes every waiting update now, in one transaction. Flushes run one
+     * at a time, so updates of a row are written in the order queued.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushWaitingRows();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Reads the counters of the queue
+     *
+     * @return submitted, written and failed counts, waiting rows, flush
+     *         times and the latest failures
+     */
+    public WriteBehindStatistics getStatistics() {
+        int pendingRows;
+        List<String> latestFailures;
+
+        lock.lock();
+        try {
+            pendingRows = employeePatches.size() + addressPatches.size();
+        } finally {
+            lock.unlock();
+        }
+        synchronized (failures) {
+            latestFailures = List.copyOf(failures);
+        }
+
+        return new WriteBehindStatistics(submittedUpdates.sum(),
+                writtenRows.sum(), failedRows.sum(), pendingRows,
+                flushMetrics.getStatistics(FLUSH_OPERATION), latestFailures);
+    }
+
+    /**
+     * Stops the flush thread and writes every waiting update. Updates
+     * queued after this are rejected.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flusher.shutdown();
+
+        try {
+            flusher.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void flushWaitingRows() {
+        Map<Integer, Consumer<Employee>> employees;
+        Map<Integer, Consumer<Address>> addresses;
+
+        lock.lock();
+        try {
+            flushRequested = false;
+            if (employeePatches.isEmpty() && addressPatches.isEmpty()) {
+                return;
+            }
+
+            employees = employeePatches;
+            addresses = addressPatches;
+            employeePatches = new LinkedHashMap<>();
+            addressPatches = new LinkedHashMap<>();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        List<Employee> writtenEmployees = new ArrayList<>();
+        List<Address> writtenAddresses = new ArrayList<>();
+        long startTime = System.nanoTime();
+        boolean failed = false;
+        try {
+            write(employees, addresses, batchSize, writtenEmployees,
+                    writtenAddresses);
+        } catch (RuntimeException exception) {
+            failed = true;
+            writeOneByOne(employees, addresses, writtenEmployees,
+                    writtenAddresses);
+        } finally {
+            flushMetrics.record(FLUSH_OPERATION, 
+                    System.nanoTime() - startTime, failed);
+        }
+
+        writtenRows.add(writtenEmployees.size() + writtenAddresses.size());
+        writtenEmployees.forEach(employeeWritten);
+        writtenAddresses.forEach(addressWritten);
+    }
+
+    /**
+     * Blocks while the queue is full, unless the row is already waiting
+     * and the update only joins it
+     */
+    private void awaitRoom(boolean rowWaiting) {
+        if (closed) {
+            throw new IllegalStateException("Write-behind queue is closed");
+        }
+
+        while (!rowWaiting && capacity 
+                <= employeePatches.size() + addressPatches.size()) {
+            requestFlush();
+            notFull.awaitUninterruptibly();
+
+            if (closed) {
+                throw new IllegalStateException(
+                        "Write-behind queue is closed");
+            }
+        }
+    }
+
+    private void afterSubmit() {
+        submittedUpdates.increment();
+
+        if (employeePatches.size() + addressPatches.size() >= batchSize) {
+            requestFlush();
+        }
+    }
+
+    private void requestFlush() {
+        if (!flushRequested && !flusher.isShutdown()) {
+            flushRequested = true;
+            flusher.execute(this::flush);
+        }
+    }
+
+    /**
+     * Writes the rows in one transaction and adds the rows written to the
+     * lists. A row that is not written, because the employee was deleted
+     * or the address no longer exists, is recorded as failed.
+     */
+    private void write(Map<Integer, Consumer<Employee>> employees,
+            Map<Integer, Consumer<Address>> addresses, int rowsPerBatch,
+            List<Employee> writtenEmployees, 
+            List<Address> writtenAddresses) {
+
+        List<Employee> employeeRows = new ArrayList<>(employees.size());
+        List<Address> addressRows = new ArrayList<>(addresses.size());
+        employeeRepository.patchInOneTransaction(employees, addresses,
+                rowsPerBatch, employeeRows::add, addressRows::add);
+
+        if (employeeRows.size() < employees.size()) {
+            Set<Integer> writtenIds = new HashSet<>();
+            employeeRows.forEach(employee -> writtenIds.add(employee.getId()));
+            employees.keySet().stream().filter(id -> !writtenIds.contains(id))
+                    .forEach(id -> recordFailure("employee " + id, 
+                            "no active employee with this id"));
+        }
+        if (addressRows.size() < addresses.size()) {
+            Set<Integer> writtenIds = new HashSet<>();
+            addressRows.forEach(address -> writtenIds.add(address.getId()));
+            addresses.keySet().stream().filter(id -> !writtenIds.contains(id))
+                    .forEach(id -> recordFailure("address " + id, 
+                            "no address with this id"));
+        }
+
+        writtenEmployees.addAll(employeeRows);
+        writtenAddresses.addAll(addressRows);
+    }
+
+    private void writeOneByOne(Map<Integer, Consumer<Employee>> employees,
+            Map<Integer, Consumer<Address>> addresses,
+            List<Employee> writtenEmployees, 
+            List<Address> writtenAddresses) {
+
+        employees.forEach((id, patch) -> writeRow(Map.of(id, patch),
+                Map.of(), writtenEmployees, writtenAddresses, 
+                "employee " + id, () -> requeueEmployee(id, patch)));
+        addresses.forEach((id, patch) -> writeRow(Map.of(), 
+                Map.of(id, patch), writtenEmployees, writtenAddresses,
+                "address " + id, () -> requeueAddress(id, patch)));
+    }
+
+    /**
+     * Writes one row in its own transaction. When a concurrent update of
+     * the row wins, the row is read again and the update applied again,
+     * up to the same number of attempts as a direct update. The row is
+     * then queued again, unless the queue is closed.
+     */
+    private void writeRow(Map<Integer, Consumer<Employee>> employee,
+            Map<Integer, Consumer<Address>> address,
+            List<Employee> writtenEmployees, 
+            List<Address> writtenAddresses, String row, Runnable requeue) {
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                write(employee, address, 1, writtenEmployees, 
+                        writtenAddresses);
+                return;
+            } catch (OptimisticLockException exception) {
+                if (MAX_WRITE_ATTEMPTS == attempt) {
+                    if (closed) {
+                        recordFailure(row, "changed by other updates on all "
+                                + MAX_WRITE_ATTEMPTS + " attempts");
+                    } else {
+                        requeue.run();
+                    }
+                    return;
+                }
+            } catch (RuntimeException exception) {
+                recordFailure(row, exception.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Puts back an update that lost to concurrent updates, before any
+     * update of the same employee queued since. It does not wait for room,
+     * as the flush thread must never block on its own queue.
+     */
+    private void requeueEmployee(int id, Consumer<Employee> patch) {
+        lock.lock();
+        try {
+            employeePatches.merge(id, patch, 
+                    (queued, retried) -> retried.andThen(queued));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void requeueAddress(int id, Consumer<Address> patch) {
+        lock.lock();
+        try {
+            addressPatches.merge(id, patch, 
+                    (queued, retried) -> retried.andThen(queued));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordFailure(String row, String reason) {
+        failedRows.increment();
+
+        synchronized (failures) {
+            if (MAX_REPORTED_FAILURES == failures.size()) {
+                failures.removeFirst();
+            }
+            failures.addLast(row + ": " + reason);
+        }
+    }
+}
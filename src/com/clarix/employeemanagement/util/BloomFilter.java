@@ -0,0 +1,98 @@
+package com.clarix.employeemanagement.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread safe probabilistic set of strings and numbers. A value that was
+ * added is always reported as present, a value that was never added is
+ * reported as absent except for the configured false positive rate.
+ */
+public class BloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Sizes the filter for the expected number of values
+     *
+     * @param expectedInsertions number of values the filter will hold
+     * @param falsePositiveRate accepted chance of a wrong "present"
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long insertions = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-insertions 
+                * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+        bits = new AtomicLongArray((int) Math.max(1, (optimalBits + 63) / 64));
+        bitCount = bits.length() * 64L;
+        hashCount = Math.max(1, (int) Math.round(
+                (double) bitCount / insertions * Math.log(2)));
+    }
+
+    public void add(String value) {
+        setBits(hash(value));
+    }
+
+    public void add(long value) {
+        setBits(mix(value));
+    }
+
+    public boolean mightContain(String value) {
+        return hasBits(hash(value));
+    }
+
+    public boolean mightContain(long value) {
+        return hasBits(mix(value));
+    }
+
+    private void setBits(long hash) {
+        int firstHash = (int) hash;
+        int secondHash = (int) (hash >>> 32);
+
+        for (int index = 1; index <= hashCount; index++) {
+            long bit = position(firstHash + index * secondHash);
+            long mask = 1L << bit;
+            bits.getAndAccumulate((int) (bit >>> 6), mask, 
+                    (word, newBit) -> word | newBit);
+        }
+    }
+
+    private boolean hasBits(long hash) {
+        int firstHash = (int) hash;
+        int secondHash = (int) (hash >>> 32);
+
+        for (int index = 1; index <= hashCount; index++) {
+            long bit = position(firstHash + index * secondHash);
+            if (0 == (bits.get((int) (bit >>> 6)) & (1L << bit))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private long position(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * 64 bit FNV-1a hash of the characters, spread by the final mix
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int index = 0; index < value.length(); index++) {
+            hash ^= value.charAt(index);
+            hash *= 0x100000001b3L;
+        }
+
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        long hash = value + 0x9e3779b97f4a7c15L;
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,30 @@
+package com.clarix.employeemanagement.util;
+
+/**
+ * Snapshot of the second level and query cache counters since startup
+ * or the last reset
+ *
+ * @param secondLevelCacheHits entities served from the second level cache
+ * @param secondLevelCacheMisses entities not found in the cache
+ * @param secondLevelCachePuts entities stored in the cache
+ * @param queryCacheHits query results served from the query cache
+ * @param queryCacheMisses query results not found in the query cache
+ * @param entityLoads entities loaded from the database
+ * @param queryExecutions queries executed against the database
+ * @param preparedStatements JDBC statements sent to the database
+ */
+public record CacheStatistics(long secondLevelCacheHits,
+        long secondLevelCacheMisses, long secondLevelCachePuts,
+        long queryCacheHits, long queryCacheMisses, long entityLoads,
+        long queryExecutions, long preparedStatements) {
+
+    /**
+     * Calculates the share of entity lookups answered by the cache
+     *
+     * @return hit ratio between 0 and 1
+     */
+    public double secondLevelCacheHitRatio() {
+        long lookups = secondLevelCacheHits + secondLevelCacheMisses;
+        return 0 == lookups ? 0 : (double) secondLevelCacheHits / lookups;
+    }
+}
@@ -1,19 +1,161 @@
 package com.clarix.employeemanagement.util;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
 
+/**
+ * Holds the single session factory of the application. The factory is
+ * built once, published safely to every thread and backed by a HikariCP
+ * connection pool and an Ehcache second level cache configured in
+ * hibernate.cfg.xml. Any "hibernate.*"
+ * system property overrides the file, e.g. to point at an embedded H2
+ * database.
+ *
+ * Once shut down, the factory is only built again by initialize, so work
+ * still running while the application stops, such as a shutdown hook or
+ * a write-behind flush, cannot reopen the pool.
+ */
 public class HibernateUtil {
-    private static SessionFactory sessionFactory;
+    private static final String CONFIGURATION_FILE = "hibernate.cfg.xml";
+    private static final String PROPERTY_PREFIX = "hibernate.";
+    private static volatile SessionFactory sessionFactory;
+    private static boolean shutDown;
 
+    /**
+     * Returns the session factory, building it on first use
+     *
+     * @return the session factory
+     * @throws IllegalStateException if the factory has been shut down and
+     *         not initialized again
+     */
     public static SessionFactory getSessionFactory() {
+        SessionFactory factory = sessionFactory;
 
-        if (null == sessionFactory) {
-            sessionFactory = new Configuration()
-                    .configure("hibernate.cfg.xml")
-                    .buildSessionFactory();
+        if (null == factory) {
+            synchronized (HibernateUtil.class) {
+                if (shutDown) {
+                    throw new IllegalStateException(
+                            "The session factory is shut down");
+                }
+
+                factory = sessionFactory;
+                if (null == factory) {
+                    factory = buildSessionFactory();
+                    sessionFactory = factory;
+                }
+            }
+        }
+
+        return factory;
+    }
+
+    /**
+     * Opens a session for reading only. Entities it loads are read-only,
+     * so no snapshot is kept for dirty checking, and it never flushes.
+     *
+     * @return the new session, to be closed by the caller
+     */
+    public static Session openReadOnlySession() {
+        Session session = getSessionFactory().openSession();
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+        return session;
+    }
+
+    /**
+     * Builds the session factory and its connection pool up front, so the
+     * first user request does not pay for it. After a shutdown, this builds
+     * a new factory, e.g. for the next test database.
+     */
+    public static void initialize() {
+        synchronized (HibernateUtil.class) {
+            shutDown = false;
+        }
+        getSessionFactory();
+    }
+
+    /**
+     * Closes the session factory and releases every pooled connection.
+     * Later calls fail until initialize is called again.
+     */
+    public static void shutdown() {
+        synchronized (HibernateUtil.class) {
+            shutDown = true;
+            if (null != sessionFactory) {
+                sessionFactory.close();
+                sessionFactory = null;
+            }
+        }
+    }
+
+    /**
+     * Reads the current state of the connection pool
+     *
+     * @return pool metrics or null if the pool is not a HikariCP pool
+     */
+    public static PoolMetrics getPoolMetrics() {
+        ConnectionProvider connectionProvider = getSessionFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(ConnectionProvider.class);
+
+        if (null == connectionProvider || !connectionProvider
+                .isUnwrappableAs(HikariDataSource.class)) {
+            return null;
+        }
+
+        HikariDataSource dataSource = connectionProvider
+                .unwrap(HikariDataSource.class);
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+
+        return new PoolMetrics(pool.getActiveConnections(),
+                pool.getIdleConnections(), pool.getTotalConnections(),
+                pool.getThreadsAwaitingConnection(),
+                dataSource.getMaximumPoolSize());
+    }
+
+    /**
+     * Reads the cache and database counters collected by hibernate
+     *
+     * @return cache statistics
+     */
+    public static CacheStatistics getCacheStatistics() {
+        Statistics statistics = getSessionFactory().getStatistics();
+
+        return new CacheStatistics(
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getSecondLevelCachePutCount(),
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                statistics.getEntityLoadCount(),
+                statistics.getQueryExecutionCount(),
+                statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Resets the cache and database counters
+     */
+    public static void clearStatistics() {
+        getSessionFactory().getStatistics().clear();
+    }
+
+    private static SessionFactory buildSessionFactory() {
+        Configuration configuration = new Configuration()
+                .configure(CONFIGURATION_FILE);
+
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(PROPERTY_PREFIX)) {
+                configuration.setProperty(name, System.getProperty(name));
+            }
         }
 
-        return sessionFactory;
+        return configuration.buildSessionFactory();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.clarix.employeemanagement.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects thread safe latency statistics per named operation. Latencies
+ * are kept in a log-linear histogram (8 buckets per power of two), so
+ * percentiles are accurate to about 12% with a fixed memory per operation.
+ */
+public class OperationMetrics {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+    /**
+     * Records one finished operation
+     *
+     * @param operation name of the operation
+     * @param elapsedNanos time taken in nanoseconds
+     * @param failed true if the operation threw an exception
+     */
+    public void record(String operation, long elapsedNanos, boolean failed) {
+        recorders.computeIfAbsent(operation, name -> new Recorder())
+                .record(Math.max(0, elapsedNanos), failed);
+    }
+
+    /**
+     * Reads the statistics of every operation recorded so far
+     *
+     * @return statistics per operation
+     */
+    public List<OperationStatistics> getStatistics() {
+        List<OperationStatistics> statistics = new ArrayList<>();
+        recorders.forEach((operation, recorder) -> 
+                statistics.add(recorder.toStatistics(operation)));
+        return statistics;
+    }
+
+    /**
+     * Reads the statistics of one operation
+     *
+     * @param operation name of the operation
+     * @return statistics or null if the operation was never recorded
+     */
+    public OperationStatistics getStatistics(String operation) {
+        Recorder recorder = recorders.get(operation);
+        return null == recorder ? null : recorder.toStatistics(operation);
+    }
+
+    public void reset() {
+        recorders.clear();
+    }
+
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) ((nanos >>> (exponent - SUB_BUCKET_BITS)) 
+                & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS))
+                - 1;
+    }
+
+    private static class Recorder {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maximumNanos = new AtomicLong();
+        private final AtomicLongArray histogram = 
+                new AtomicLongArray(bucketOf(Long.MAX_VALUE) + 1);
+
+        void record(long elapsedNanos, boolean failed) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maximumNanos.accumulateAndGet(elapsedNanos, Math::max);
+            histogram.incrementAndGet(bucketOf(elapsedNanos));
+
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        OperationStatistics toStatistics(String operation) {
+            long operations = count.sum();
+            double averageNanos = 0 == operations ? 0 
+                    : (double) totalNanos.sum() / operations;
+
+            return new OperationStatistics(operation, operations,
+                    failures.sum(), averageNanos / 1_000_000,
+                    percentile(operations, 0.50) / 1_000_000.0,
+                    percentile(operations, 0.99) / 1_000_000.0,
+                    maximumNanos.get() / 1_000_000.0);
+        }
+
+        private long percentile(long operations, double fraction) {
+            long rank = (long) Math.ceil(operations * fraction);
+            long seen = 0;
+
+            for (int bucket = 0; bucket < histogram.length(); bucket++) {
+                seen += histogram.get(bucket);
+                if (seen >= rank && seen > 0) {
+                    return Math.min(upperBoundOf(bucket), maximumNanos.get());
+                }
+            }
+
+            return maximumNanos.get();
+        }
+    }
+}
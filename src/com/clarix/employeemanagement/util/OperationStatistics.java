@@ -0,0 +1,17 @@
+package com.clarix.employeemanagement.util;
+
+/**
+ * Latency statistics of one operation, times are in milliseconds
+ *
+ * @param operation name of the operation
+ * @param count number of finished operations
+ * @param failures number of operations that threw an exception
+ * @param averageMillis mean latency
+ * @param p50Millis median latency
+ * @param p99Millis 99th percentile latency
+ * @param maximumMillis highest latency
+ */
+public record OperationStatistics(String operation, long count,
+        long failures, double averageMillis, double p50Millis,
+        double p99Millis, double maximumMillis) {
+}
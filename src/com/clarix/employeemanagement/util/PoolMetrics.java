@@ -0,0 +1,15 @@
+package com.clarix.employeemanagement.util;
+
+/**
+ * Snapshot of the database connection pool
+ *
+ * @param activeConnections connections currently lent to sessions
+ * @param idleConnections connections waiting in the pool
+ * @param totalConnections active and idle connections
+ * @param threadsAwaitingConnection threads blocked waiting for a connection
+ * @param maximumPoolSize upper bound of the pool
+ */
+public record PoolMetrics(int activeConnections, int idleConnections,
+        int totalConnections, int threadsAwaitingConnection,
+        int maximumPoolSize) {
+}
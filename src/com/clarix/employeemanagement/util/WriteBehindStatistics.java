@@ -0,0 +1,27 @@
+package com.clarix.employeemanagement.util;
+
+import java.util.List;
+
+/**
+ * Counters of a write-behind queue, flush times are in milliseconds
+ *
+ * @param submittedUpdates number of updates accepted by the queue
+ * @param writtenRows number of rows written, after coalescing the updates
+ *        of the same row
+ * @param failedRows number of rows whose update could not be written
+ * @param pendingRows number of rows waiting for the next flush
+ * @param flushLatency duration of the flushes
+ * @param failures the row and reason of the latest failed rows
+ */
+public record WriteBehindStatistics(long submittedUpdates, long writtenRows,
+        long failedRows, int pendingRows, OperationStatistics flushLatency,
+        List<String> failures) {
+
+    /**
+     * @return updates submitted per row written, 1 when nothing was
+     *         coalesced
+     */
+    public double coalescingRatio() {
+        return 0 == writtenRows ? 1 : (double) submittedUpdates / writtenRows;
+    }
+}
@@ -12,14 +12,20 @@
 
 package com.clarix.employeemanagement.view;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.Scanner;
 import com.clarix.employeemanagement.controller.AddressController;
 import com.clarix.employeemanagement.controller.EmployeeController;
 import com.clarix.employeemanagement.model.Address;
-import com.clarix.employeemanagement.model.Employee;
+import com.clarix.employeemanagement.model.EmployeeMatch;
+import com.clarix.employeemanagement.model.UpdateResult;
 
 /**
  * Provides options for managing employee information
@@ -28,6 +34,8 @@ import com.clarix.employeemanagement.model.Employee;
  * @see com.clarix.employeemanagement.model.Employee
  */
 public class EmployeeView {
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final int LOOKUP_LIMIT = 20;
     private Scanner scanner = new Scanner(System.in);
     private EmployeeController employeeController;
     private AddressController addressController;
@@ -67,8 +75,14 @@ public class EmployeeView {
                 case 5 -> deleteEmployee();
     
                 case 6 -> updateAddress();
+
+                case 7 -> importEmployees();
+
+                case 8 -> findEmployees();
                 
-                case 7 -> {
+                case 9 -> archiveEmployees();
+
+                case 10 -> {
                     System.out.println("Are you want to exit? 1.Yes 2.No");
                     exit = (1 == scanner.nextInt());      
                 }
@@ -91,7 +105,10 @@ public class EmployeeView {
                 4.View All Employees
                 5.Delete Employee
                 6.Update Address
-                7.Exit
+                7.Import Employees
+                8.Find Employees by Name
+                9.Archive Deleted Employees
+                10.Exit
                 """);
         System.out.print("choose an option: ");
     }
@@ -130,7 +147,7 @@ public class EmployeeView {
         int currentPinCode = Integer.parseInt(currentAddressPincode);	
 
         Address currentAddress = getAddressController()
-                .addAddress(currentDoorNo, currentStreet, currentCity, 
+                .findAddress(currentDoorNo, currentStreet, currentCity, 
                 currentPinCode);
 
         System.out.println("Enter the permanent address details");
@@ -148,8 +165,8 @@ public class EmployeeView {
         int permanentPinCode = Integer.parseInt(permanentAddressPinCode);
 
         Address permanentAddress = getAddressController()
-                .addAddress(permanentDoorNo, permanentStreet, permanentCity,
-                permanentPinCode);
+                .findAddress(permanentDoorNo, permanentStreet, 
+                permanentCity, permanentPinCode);
 
         String statusMessage = getEmployeeController().addEmployee(name, 
                 dateOfBirth, phoneNumber, salary, email, currentAddress,
@@ -166,8 +183,7 @@ public class EmployeeView {
         int id = scanner.nextInt();
         scanner.nextLine();
 
-        Employee employee = getEmployeeController().getEmployeeById(id);
-        if (null == employee) {
+        if (!getEmployeeController().isEmployeeExist(id)) {
             System.out.println("Employee not found");
             return;
         }
@@ -215,8 +231,7 @@ public class EmployeeView {
         int id = scanner.nextInt();
         scanner.nextLine();
 
-        Employee employee = getEmployeeController().getEmployeeById(id);
-        if (null == employee) {
+        if (!getEmployeeController().isEmployeeExist(id)) {
             System.out.println("Employee not found");
             return;
         }
@@ -225,6 +240,46 @@ public class EmployeeView {
         System.out.println(statusMessage);
     }
 
+    /**
+     * Displays the employees whose name or email starts with the typed
+     * text
+     */
+    public void findEmployees() {
+        System.out.println("You chose to find employees by name");
+        System.out.print("Enter the start of the name or email: ");
+        String query = scanner.nextLine();
+
+        List<EmployeeMatch> employees = getEmployeeController()
+                .lookupEmployees(query, LOOKUP_LIMIT);
+
+        if (employees.isEmpty()) {
+            System.out.println("No employees found");
+        }
+        for (EmployeeMatch employee : employees) {
+            System.out.println(employee);
+        }
+    }
+
+    /**
+     * Moves the employees deleted long enough ago to the employee archive
+     */
+    public void archiveEmployees() {
+        System.out.println("You chose to archive deleted employees");
+        System.out.print("Archive employees deleted more than how many "
+                + "days ago: ");
+        int inactiveDays = scanner.nextInt();
+        scanner.nextLine();
+
+        if (inactiveDays < 0) {
+            System.out.println("Invalid number of days");
+            return;
+        }
+
+        int archivedEmployees = getEmployeeController()
+                .archiveInactiveEmployees(inactiveDays);
+        System.out.println(archivedEmployees + " employees archived");
+    }
+
     /**
      * Display employee information by id
      */
@@ -243,8 +298,34 @@ public class EmployeeView {
     */   
     public void viewAllEmployees() {
         System.out.println("You chose to view all employees");
-        String statusMessage = getEmployeeController().viewAllEmployees();
-        System.out.println(statusMessage);
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(System.out), OUTPUT_BUFFER_SIZE);
+
+        try {
+            getEmployeeController().viewAllEmployees(writer);
+            writer.write(System.lineSeparator());
+            writer.flush();
+        } catch (IOException outputException) {
+            System.out.println("Unable to display employees: " 
+                    + outputException.getMessage());
+        }
+    }
+
+    /**
+     * Imports employees in bulk from a csv file
+     */
+    public void importEmployees() {
+        System.out.println("You chose to import employees");
+        System.out.print("Enter the csv file path: ");
+        String filePath = scanner.nextLine();
+
+        try {
+            System.out.println(getEmployeeController()
+                    .importEmployees(filePath));
+        } catch (IOException fileException) {
+            System.out.println("Unable to read the file: " 
+                    + fileException.getMessage());
+        }
     }
 
     /**
@@ -256,8 +337,7 @@ public class EmployeeView {
         int id = scanner.nextInt();
         scanner.nextLine();
 
-        Employee employee = getEmployeeController().getEmployeeById(id);
-        if (null == employee) {
+        if (!getEmployeeController().isEmployeeExist(id)) {
             System.out.println("Employee not found");
             return;
         }
@@ -270,10 +350,6 @@ public class EmployeeView {
         int userChoice = scanner.nextInt();
         scanner.nextLine();
 
-        int addressId = (1 == userChoice)
-                ? employee.getCurrentAddress().getId()
-                : employee.getPermanentAddress().getId();
-
         System.out.print("Enter the new doorNo: ");
         String doorNo = scanner.nextLine();
 
@@ -286,8 +362,11 @@ public class EmployeeView {
         System.out.print("Enter the new pincode: ");
         int pinCode = scanner.nextInt();
 
-        boolean updatedAddress = getAddressController()	
-                .updateAddress(addressId, doorNo, street, city, pinCode);
+        boolean updatedAddress = (1 == userChoice)
+                ? getEmployeeController().updateCurrentAddress(id, doorNo,
+                        street, city, pinCode)
+                : getEmployeeController().updatePermanentAddress(id, doorNo,
+                        street, city, pinCode);
 
         System.out.println(
                 updatedAddress 
@@ -303,8 +382,9 @@ public class EmployeeView {
      */
     public void updateName(int id) {
         String name = getValidatedData("NAME", "Enter new name: ");
-        getEmployeeController().updateName(id, name);
-        System.out.println("name updated successfully");
+        UpdateResult result = getEmployeeController()
+                .updateName(id, name);
+        printUpdateResult(result, "name updated successfully");
     }
 
     /**
@@ -314,8 +394,9 @@ public class EmployeeView {
      */
     public void updateBirthDate(int id) {
         LocalDate dateOfBirth = getValidatedBirthDate();
-        getEmployeeController().updateBirthDate(id, dateOfBirth);
-        System.out.println("Date of birth updated successfully");
+        UpdateResult result = getEmployeeController()
+                .updateBirthDate(id, dateOfBirth);
+        printUpdateResult(result, "Date of birth updated successfully");
     }
 
     /**
@@ -325,8 +406,9 @@ public class EmployeeView {
      */
     public void updateEmail(int id) {
         String email = getValidatedData("EMAIL", "Enter new email: ");
-        getEmployeeController().updateEmail(id, email);
-        System.out.println("Email updated successfully");
+        UpdateResult result = getEmployeeController()
+                .updateEmail(id, email);
+        printUpdateResult(result, "Email updated successfully");
     }
 
     /**
@@ -336,8 +418,9 @@ public class EmployeeView {
      */
     public void updatePhoneNumber(int id) {
         String phoneNumber = getValidatedData("PHONENUMBER", "Enter number: ");
-        getEmployeeController().updatePhoneNumber(id, phoneNumber);
-        System.out.println("Mobile number updated successfully");
+        UpdateResult result = getEmployeeController()
+                .updatePhoneNumber(id, phoneNumber);
+        printUpdateResult(result, "Mobile number updated successfully");
     }
 
     /**
@@ -347,8 +430,21 @@ public class EmployeeView {
      */
     public void updateSalary(int id) {
         String salary = getValidatedData("SALARY", "Enter salary: ");
-        getEmployeeController().updateSalary(id, salary);
-        System.out.println("salary updated successfully");
+        UpdateResult result = getEmployeeController()
+                .updateSalary(id, salary);
+        printUpdateResult(result, "salary updated successfully");
+    }
+
+    private void printUpdateResult(UpdateResult result, 
+            String updatedMessage) {
+
+        System.out.println(switch (result) {
+            case UPDATED -> updatedMessage;
+            case NOT_FOUND -> "Employee not found";
+            case CONFLICT -> "Employee was changed by someone else, "
+                    + "please try again";
+            case QUEUED -> "Update accepted, it will be saved in a moment";
+        });
     }
 
     /**
@@ -0,0 +1,234 @@
+/*
+ * File : EmployeeContentionTest.java
+ * Package : com.clarix.employeemanagement.service
+ * Description : Checks that concurrent updates of the same employees are
+ *               never lost
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.clarix.employeemanagement.model.Address;
+import com.clarix.employeemanagement.model.Employee;
+import com.clarix.employeemanagement.model.EmployeeSummary;
+import com.clarix.employeemanagement.model.UpdateResult;
+import com.clarix.employeemanagement.repository.EmployeeRepository;
+import com.clarix.employeemanagement.util.HibernateUtil;
+import com.clarix.employeemanagement.util.WriteBehindStatistics;
+
+/**
+ * Updates two hot employees from several threads at once, against an
+ * in-memory H2 database in MySQL mode, and checks that no update is lost:
+ * every increment reported as written shows in the salary total, which is
+ * summed as BigDecimal, and every update reported as written shows in the
+ * row version
+ */
+class EmployeeContentionTest {
+    private static final int ROWS = 20;
+    private static final int HOT_ROWS = 2;
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 150;
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private final EmployeeService employeeService = new EmployeeService();
+    private final EmployeeRepository employeeRepository =
+            new EmployeeRepository();
+
+    @BeforeEach
+    void startDatabase() {
+        HibernateUtil.shutdown();
+
+        System.setProperty("hibernate.connection.driver_class",
+                "org.h2.Driver");
+        System.setProperty("hibernate.connection.url", "jdbc:h2:mem:contention"
+                + DATABASES.incrementAndGet()
+                + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        System.setProperty("hibernate.connection.username", "sa");
+        System.setProperty("hibernate.connection.password", "");
+        System.setProperty("hibernate.dialect",
+                "org.hibernate.dialect.H2Dialect");
+        System.setProperty("hibernate.hbm2ddl.auto", "create-drop");
+        HibernateUtil.initialize();
+
+        Address address = new AddressService().resolveAddress("1",
+                "Gandhi Street", "Chennai", 600001);
+        List<Employee> employees = new ArrayList<>();
+        for (int index = 0; index < ROWS; index++) {
+            employees.add(employeeService.createEmployee("Employee "
+                    + (char) ('a' + index), LocalDate.of(1990, 1, 1),
+                    9_000_000_000L + index, 10000,
+                    "employee" + index + "@clarix.com", address, address));
+        }
+        employeeRepository.addEmployees(employees, ROWS);
+    }
+
+    @AfterEach
+    void stopDatabase() {
+        EmployeeService.disableWriteBehind();
+        HibernateUtil.shutdown();
+    }
+
+    /**
+     * Increments are not retried, so each one is either written on top of
+     * the latest salary or reported as a conflict
+     */
+    @Test
+    void incrementsReportedAsUpdatedAreAllApplied() throws Exception {
+        BigDecimal initialTotal = totalSalary();
+        LongAdder appliedIncrements = new LongAdder();
+        LongAdder conflicts = new LongAdder();
+
+        runConcurrently(random -> {
+            UpdateResult result = employeeRepository.patchEmployee(
+                    hotId(random), employee -> employee.setSalary(
+                            employee.getSalary() + 1));
+
+            if (result.isUpdated()) {
+                appliedIncrements.increment();
+            } else {
+                assertEquals(UpdateResult.CONFLICT, result);
+                conflicts.increment();
+            }
+        });
+
+        assertEquals(THREADS * UPDATES_PER_THREAD,
+                appliedIncrements.sum() + conflicts.sum());
+        assertEquals(initialTotal.add(BigDecimal.valueOf(
+                appliedIncrements.sum())), totalSalary());
+    }
+
+    /**
+     * The service retries conflicts, and each update it reports as written
+     * increments the version of the row exactly once
+     */
+    @Test
+    void retriedUpdatesAreEachWrittenOnce() throws Exception {
+        AtomicLongArray updates = new AtomicLongArray(HOT_ROWS + 1);
+        int[] initialVersions = new int[HOT_ROWS + 1];
+        for (int id = 1; id <= HOT_ROWS; id++) {
+            initialVersions[id] = employeeRepository.getEmployeeById(id)
+                    .getVersion();
+        }
+
+        runConcurrently(random -> {
+            int id = hotId(random);
+            UpdateResult result = employeeService.updateSalary(id,
+                    String.valueOf(20000 + random.nextInt(80000)));
+
+            if (result.isUpdated()) {
+                updates.incrementAndGet(id);
+            } else {
+                assertEquals(UpdateResult.CONFLICT, result);
+            }
+        });
+
+        for (int id = 1; id <= HOT_ROWS; id++) {
+            assertEquals(updates.get(id), employeeRepository
+                    .getEmployeeById(id).getVersion() - initialVersions[id]);
+        }
+    }
+
+    /**
+     * Queued increments are flushed while email updates of the same rows
+     * are written directly, so flushes meet rows changed since they were
+     * read and have to retry them
+     */
+    @Test
+    void queuedIncrementsSurviveDirectUpdates() throws Exception {
+        EmployeeService.enableWriteBehind(5, 50, 1000);
+        WriteBehindQueue queue = EmployeeService.getWriteBehindQueue();
+        BigDecimal initialTotal = totalSalary();
+        LongAdder queuedIncrements = new LongAdder();
+        AtomicInteger emails = new AtomicInteger();
+
+        runConcurrently(random -> {
+            int id = hotId(random);
+
+            if (0 == random.nextInt(4)) {
+                employeeService.updateEmail(id, "hot"
+                        + emails.incrementAndGet() + "@clarix.com");
+            } else {
+                queue.patchEmployee(id, employee -> employee.setSalary(
+                        employee.getSalary() + 1));
+                queuedIncrements.increment();
+            }
+        });
+
+        WriteBehindStatistics statistics =
+                EmployeeService.disableWriteBehind();
+
+        assertEquals(0, statistics.failedRows(),
+                () -> statistics.failures().toString());
+        assertEquals(queuedIncrements.sum(), statistics.submittedUpdates());
+        assertEquals(initialTotal.add(BigDecimal.valueOf(
+                queuedIncrements.sum())), totalSalary());
+    }
+
+    /**
+     * Starts every thread at the same moment and waits for all of them, an
+     * assertion failing in a thread fails the test
+     */
+    private void runConcurrently(Consumer<Random> update) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> threads = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            Random random = new Random(thread);
+            threads.add(executor.submit(() -> {
+                start.await();
+                for (int count = 0; count < UPDATES_PER_THREAD; count++) {
+                    update.accept(random);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        try {
+            for (Future<?> thread : threads) {
+                thread.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int hotId(Random random) {
+        return 1 + random.nextInt(HOT_ROWS);
+    }
+
+    private BigDecimal totalSalary() {
+        BigDecimal total = BigDecimal.ZERO;
+
+        for (EmployeeSummary employee
+                : employeeRepository.viewEmployeeSummariesAfter(0, ROWS)) {
+            total = total.add(BigDecimal.valueOf(employee.salary()));
+        }
+        return total;
+    }
+}
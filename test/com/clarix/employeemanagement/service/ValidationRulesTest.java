@@ -0,0 +1,106 @@
+/*
+ * File : ValidationRulesTest.java
+ * Package : com.clarix.employeemanagement.service
+ * Description : Compares the validation rules with the former regexes
+ * Author : sakthi
+ * Email : sakthi@gmail.com
+ * Created on : 18-10-2026
+ * Version : 1.0.0
+ *
+ * Copyright : © 2026 clarivium technologies. All rights reserved
+ */
+
+package com.clarix.employeemanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that every rule accepts exactly what the String.matches check it
+ * replaced accepted, on generated inputs built mostly from the characters
+ * the rule is about, so both valid and invalid values are common
+ */
+class ValidationRulesTest {
+    private static final int INPUTS_PER_RULE = 250_000;
+    private static final String LETTERS = 
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final String DIGITS = "0123456789";
+    private static final String OTHERS = " ./-@_#\té";
+
+    private final ValidationRules rules = new ValidationRules();
+
+    @Test
+    void nameMatchesFormerRegex() {
+        compare("^[A-Za-z ]{3,30}$", rules::validateName, LETTERS + " ", 35);
+    }
+
+    @Test
+    void emailMatchesFormerRegex() {
+        compare("^[A-Za-z0-9_.]+@[A-Za-z0-9.]+$", rules::validateEmail,
+                "ab09_.@@", 12);
+    }
+
+    @Test
+    void phoneNumberMatchesFormerRegex() {
+        compare("^[6-9][0-9]{9}$", rules::validatePhoneNumber, DIGITS, 12);
+    }
+
+    @Test
+    void salaryMatchesFormerRegex() {
+        compare("^[0-9]{1,6}(\\.[0-9]{1,2})?$", rules::validateSalary,
+                DIGITS + "..", 11);
+    }
+
+    @Test
+    void doorNoMatchesFormerRegex() {
+        compare("^[A-Za-z0-9]+([ /-][A-Za-z0-9]+)*$", rules::validateDoorNo,
+                "aZ09 /-", 10);
+    }
+
+    @Test
+    void streetMatchesFormerRegex() {
+        compare("^[A-Za-z0-9 .-]{1,50}$", rules::validateStreet,
+                LETTERS + DIGITS + " .-", 55);
+    }
+
+    @Test
+    void cityMatchesFormerRegex() {
+        compare("^[A-Za-z ]{1,50}$", rules::validateCity, LETTERS + " ", 55);
+    }
+
+    @Test
+    void pinCodeMatchesFormerRegex() {
+        compare("^[0-9]{1,6}$", rules::validatePinCode, DIGITS, 8);
+    }
+
+    /**
+     * Generates inputs of up to maxLength characters, one in ten of them
+     * taken from any character class, and compares both checks
+     */
+    private void compare(String regex, Function<String, String> rule,
+            String alphabet, int maxLength) {
+
+        Random random = new Random(regex.hashCode());
+        StringBuilder input = new StringBuilder(maxLength);
+
+        for (int count = 0; count < INPUTS_PER_RULE; count++) {
+            input.setLength(0);
+            int length = random.nextInt(maxLength + 1);
+
+            for (int index = 0; index < length; index++) {
+                String characters = 0 == random.nextInt(10)
+                        ? LETTERS + DIGITS + OTHERS : alphabet;
+                input.append(characters.charAt(
+                        random.nextInt(characters.length())));
+            }
+
+            String value = input.toString();
+            assertEquals(value.matches(regex), null == rule.apply(value),
+                    () -> "Rule and regex " + regex + " differ on '" 
+                            + value + "'");
+        }
+    }
+}